@@ -22,6 +22,7 @@ import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
@@ -151,25 +152,44 @@ public final class ExpressionUtil {
             @Nonnull Expression<Boolean> predicate,
             @Nonnull ExpressionEvalContext context
     ) {
-        return row0 -> projection(predicate, projections, row0.getRow(), context);
+        Expression<Boolean> predicate0 = specializePredicate(predicate);
+        if (predicate0 == null) {
+            return projectionFn(projections, context);
+        }
+        return row0 -> projection(predicate0, projections, row0.getRow(), context);
+    }
+
+    /**
+     * Specializes the given predicate once, before it's evaluated for each
+     * row. Returns {@code null} if the predicate always passes, so that the
+     * callers can skip its per-row evaluation; otherwise returns the
+     * predicate as is.
+     */
+    @Nullable
+    public static Expression<Boolean> specializePredicate(@Nullable Expression<Boolean> predicate) {
+        return ConstantExpression.TRUE.equals(predicate) ? null : predicate;
     }
 
     /**
      * Concatenates {@code leftRow} and {@code rightRow} into one, evaluates
      * the {@code predicate} on it, and if the predicate passed, returns the
-     * joined row; returns {@code null} if the predicate didn't pass.
+     * joined row; returns {@code null} if the predicate didn't pass. A
+     * {@code null} predicate always passes.
      */
     @Nullable
     public static JetSqlRow join(
             @Nonnull JetSqlRow leftRow,
             @Nonnull JetSqlRow rightRow,
-            @Nonnull Expression<Boolean> predicate,
+            @Nullable Expression<Boolean> predicate,
             @Nonnull ExpressionEvalContext context
     ) {
         Object[] joined = Arrays.copyOf(leftRow.getValues(), leftRow.getFieldCount() + rightRow.getFieldCount());
         System.arraycopy(rightRow.getValues(), 0, joined, leftRow.getFieldCount(), rightRow.getFieldCount());
 
         JetSqlRow result = new JetSqlRow(context.getSerializationService(), joined);
+        if (predicate == null) {
+            return result;
+        }
         Row row = result.getRow();
         return Boolean.TRUE.equals(evaluate(predicate, row, context)) ? result : null;
     }
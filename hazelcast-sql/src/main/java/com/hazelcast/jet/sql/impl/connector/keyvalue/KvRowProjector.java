@@ -23,7 +23,6 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.query.impl.getters.Extractors;
-import com.hazelcast.sql.impl.expression.ConstantExpression;
 import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
@@ -34,6 +33,7 @@ import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.type.QueryDataType;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
 
@@ -53,11 +53,11 @@ public class KvRowProjector implements Row {
     private final QueryTarget valueTarget;
     private final QueryExtractor[] extractors;
 
+    @Nullable
     private final Expression<Boolean> predicate;
     private final List<Expression<?>> projections;
     private final ExpressionEvalContext evalContext;
 
-    @SuppressWarnings("unchecked")
     KvRowProjector(
             QueryPath[] paths,
             QueryDataType[] types,
@@ -72,8 +72,7 @@ public class KvRowProjector implements Row {
         this.valueTarget = valueTarget;
         this.extractors = createExtractors(paths, types, keyTarget, valueTarget);
 
-        this.predicate = predicate != null ? predicate
-                : (Expression<Boolean>) ConstantExpression.create(true, QueryDataType.BOOLEAN);
+        this.predicate = ExpressionUtil.specializePredicate(predicate);
         this.projections = projections;
         this.evalContext = evalContext;
     }
@@ -134,7 +133,7 @@ public class KvRowProjector implements Row {
                 return false;
             }
         }
-        return predicate.isCooperative();
+        return predicate == null || predicate.isCooperative();
     }
 
     public static Supplier supplier(
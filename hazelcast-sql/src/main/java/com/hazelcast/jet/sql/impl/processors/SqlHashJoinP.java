@@ -16,8 +16,6 @@
 
 package com.hazelcast.jet.sql.impl.processors;
 
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
 import com.hazelcast.jet.core.AbstractProcessor;
@@ -31,6 +29,7 @@ import com.hazelcast.jet.sql.impl.ObjectArrayKey;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 
@@ -38,9 +37,9 @@ import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class SqlHashJoinP extends AbstractProcessor {
 
@@ -48,7 +47,9 @@ public class SqlHashJoinP extends AbstractProcessor {
     private final int rightInputColumnCount;
 
     private ExpressionEvalContext evalContext;
-    private Multimap<ObjectArrayKey, JetSqlRow> hashMap;
+    private Expression<Boolean> nonEquiCondition;
+    private Map<ObjectArrayKey, List<JetSqlRow>> hashMap;
+    private long hashMapSize;
     private FlatMapper<JetSqlRow, JetSqlRow> flatMapper;
     private long maxItemsInHashTable;
 
@@ -60,23 +61,27 @@ public class SqlHashJoinP extends AbstractProcessor {
     @Override
     public void init(@Nonnull Context context) throws Exception {
         this.evalContext = ExpressionEvalContext.from(context);
-        this.hashMap = LinkedListMultimap.create();
+        this.nonEquiCondition = ExpressionUtil.specializePredicate(joinInfo.nonEquiCondition());
+        this.hashMap = new HashMap<>();
         this.flatMapper = flatMapper(this::join);
         this.maxItemsInHashTable = context.maxProcessorAccumulatedRecords();
     }
 
     private Traverser<JetSqlRow> join(JetSqlRow leftRow) {
         ObjectArrayKey joinKeys = ObjectArrayKey.project(leftRow, joinInfo.leftEquiJoinIndices());
-        Collection<JetSqlRow> matchedRows = hashMap.get(joinKeys);
-        List<JetSqlRow> output = matchedRows.stream()
-                .map(right -> ExpressionUtil.join(
-                        leftRow,
-                        right,
-                        joinInfo.nonEquiCondition(),
-                        evalContext)
-                )
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        List<JetSqlRow> matchedRows = hashMap.get(joinKeys);
+        if (matchedRows == null) {
+            return joinInfo.isLeftOuter()
+                    ? Traversers.singleton(leftRow.extendedRow(rightInputColumnCount))
+                    : Traversers.empty();
+        }
+        List<JetSqlRow> output = new ArrayList<>(matchedRows.size());
+        for (JetSqlRow right : matchedRows) {
+            JetSqlRow joined = ExpressionUtil.join(leftRow, right, nonEquiCondition, evalContext);
+            if (joined != null) {
+                output.add(joined);
+            }
+        }
         if (joinInfo.isLeftOuter() && output.isEmpty()) {
             return Traversers.singleton(leftRow.extendedRow(rightInputColumnCount));
         }
@@ -90,7 +95,7 @@ public class SqlHashJoinP extends AbstractProcessor {
 
     @Override
     protected boolean tryProcess1(@Nonnull Object item) {
-        if (hashMap.size() == maxItemsInHashTable) {
+        if (hashMapSize == maxItemsInHashTable) {
             throw new AccumulationLimitExceededException();
         }
         JetSqlRow rightRow = (JetSqlRow) item;
@@ -99,7 +104,8 @@ public class SqlHashJoinP extends AbstractProcessor {
         if (joinKeys.containsNull()) {
             return true;
         }
-        hashMap.put(joinKeys, rightRow);
+        hashMap.computeIfAbsent(joinKeys, k -> new ArrayList<>(1)).add(rightRow);
+        hashMapSize++;
         return true;
     }
 
@@ -45,6 +45,9 @@ public class CacheGetAllOperation
     private Set<Data> keys;
     private ExpiryPolicy expiryPolicy;
 
+    // true when the keys are already known to belong to the partition of this operation
+    private transient boolean keysOfPartition;
+
     public CacheGetAllOperation(String name, Set<Data> keys, ExpiryPolicy expiryPolicy) {
         super(name);
         this.keys = keys;
@@ -55,10 +58,25 @@ public class CacheGetAllOperation
         keys = new HashSet<>();
     }
 
+    /**
+     * Creates an operation for keys which are known to belong to the partition
+     * the operation runs on, so they are not filtered again.
+     */
+    static CacheGetAllOperation forPartitionKeys(String name, Set<Data> keys, ExpiryPolicy expiryPolicy) {
+        CacheGetAllOperation operation = new CacheGetAllOperation(name, keys, expiryPolicy);
+        operation.keysOfPartition = true;
+        return operation;
+    }
+
     public void run() {
         ICacheService service = getService();
         ICacheRecordStore cache = service.getOrCreateRecordStore(name, getPartitionId());
 
+        if (keysOfPartition) {
+            response = cache.getAll(keys, expiryPolicy);
+            return;
+        }
+
         int partitionId = getPartitionId();
         Set<Data> partitionKeySet = new HashSet<>();
         for (Data key : keys) {
@@ -18,31 +18,43 @@ package com.hazelcast.cache.impl.operation;
 
 import com.hazelcast.cache.impl.CacheDataSerializerHook;
 import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationFactory;
+import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionAwareOperationFactory;
 
 import javax.cache.expiry.ExpiryPolicy;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 
 /**
  * Factory implementation for {@link com.hazelcast.cache.impl.operation.CacheGetAllOperation}.
+ * <p>
+ * On the member running the operations, the keys are grouped by partition once,
+ * so each partition operation gets only its own keys instead of filtering all of them.
  * @see OperationFactory
  */
 public class CacheGetAllOperationFactory
-        implements OperationFactory, IdentifiedDataSerializable {
+        extends PartitionAwareOperationFactory implements IdentifiedDataSerializable {
 
     private String name;
     private Set<Data> keys;
     private ExpiryPolicy expiryPolicy;
 
+    // only set on the factory created on the runner
+    private Map<Integer, Set<Data>> keysByPartition;
+
     public CacheGetAllOperationFactory() {
         keys = new HashSet<>();
     }
@@ -53,6 +65,29 @@ public class CacheGetAllOperationFactory
         this.expiryPolicy = expiryPolicy;
     }
 
+    @Override
+    public PartitionAwareOperationFactory createFactoryOnRunner(NodeEngine nodeEngine, int[] partitions) {
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        Map<Integer, Set<Data>> keysByPartition = createHashMap(partitions.length);
+        for (Data key : keys) {
+            keysByPartition.computeIfAbsent(partitionService.getPartitionId(key), partitionId -> new HashSet<>()).add(key);
+        }
+
+        CacheGetAllOperationFactory factory = new CacheGetAllOperationFactory(name, keys, expiryPolicy);
+        factory.partitions = partitions;
+        factory.keysByPartition = keysByPartition;
+        return factory;
+    }
+
+    @Override
+    public Operation createPartitionOperation(int partitionId) {
+        if (keysByPartition == null) {
+            return createOperation();
+        }
+        Set<Data> partitionKeys = keysByPartition.getOrDefault(partitionId, Collections.emptySet());
+        return CacheGetAllOperation.forPartitionKeys(name, partitionKeys, expiryPolicy);
+    }
+
     @Override
     public Operation createOperation() {
         return new CacheGetAllOperation(name, keys, expiryPolicy);
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.clientside.HazelcastClientProxy;
+import com.hazelcast.client.impl.spi.impl.ClientInvocationServiceInternal;
+import com.hazelcast.client.impl.spi.impl.ClientWriteBatch;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.Pipelining;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.annotation.Beta;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link Pipelining} for the Java client which, in addition to bounding the
+ * number of invocations in flight, groups the writes of the pipelined
+ * invocations.
+ * <p>
+ * Requests are added as suppliers of asynchronous calls like e.g.
+ * {@link IMap#getAsync(Object)}. The invocations sent while a supplier runs
+ * are queued on their connections without being written, and the queued
+ * invocations of a connection are written together when the Pipelining
+ * flushes. This replaces a write per invocation with a write per connection
+ * and flush.
+ * <p>
+ * The Pipelining flushes automatically:
+ * <ul>
+ * <li>when {@code flushCount} requests have been added since the last flush,</li>
+ * <li>when {@code maxFlushDelay} has elapsed since a request was deferred,</li>
+ * <li>before blocking because the depth of the Pipelining has been reached,</li>
+ * <li>before waiting for the {@link #results()}.</li>
+ * </ul>
+ * Blocking on the response of a deferred invocation, e.g. a synchronous call
+ * made by a supplier, flushes the deferred requests before it waits. A request
+ * can also be flushed explicitly using {@link #flush()}.
+ * <p>
+ * Invocations which are retried are written immediately.
+ * <p>
+ * Like the {@link Pipelining}, the ClientPipelining isn't thread safe. So only
+ * a single thread should add requests to the ClientPipelining and wait for
+ * results.
+ *
+ * @param <E> the result type of the Pipelining
+ */
+@Beta
+public class ClientPipelining<E> {
+
+    /**
+     * The default maximum delay of a deferred request in milliseconds.
+     */
+    public static final long DEFAULT_MAX_FLUSH_DELAY_MILLIS = 1;
+
+    private final Pipelining<E> pipelining;
+    private final ClientInvocationServiceInternal invocationService;
+    private final ClientWriteBatch batch;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int depth;
+    private final int flushCount;
+    private final boolean deferWrites;
+    private int unflushed;
+
+    /**
+     * Creates a ClientPipelining with the given depth, which flushes after
+     * {@code depth} requests or {@link #DEFAULT_MAX_FLUSH_DELAY_MILLIS}.
+     *
+     * @param client the client used by the requests
+     * @param depth  the maximum number of concurrent calls allowed in this Pipelining.
+     * @throws IllegalArgumentException if depth smaller than 1 or if the instance is not a client
+     */
+    public ClientPipelining(HazelcastInstance client, int depth) {
+        this(client, depth, depth, DEFAULT_MAX_FLUSH_DELAY_MILLIS, MILLISECONDS);
+    }
+
+    /**
+     * Creates a ClientPipelining.
+     *
+     * @param client        the client used by the requests
+     * @param depth         the maximum number of concurrent calls allowed in this Pipelining.
+     * @param flushCount    the number of added requests after which the Pipelining flushes
+     * @param maxFlushDelay the maximum time a request stays deferred; {@code 0} means requests are never deferred
+     * @param unit          the time unit of the {@code maxFlushDelay}
+     * @throws IllegalArgumentException if depth or flushCount smaller than 1, if maxFlushDelay is negative
+     *                                  or if the instance is not a client
+     */
+    public ClientPipelining(HazelcastInstance client, int depth, int flushCount, long maxFlushDelay, TimeUnit unit) {
+        checkNotNull(client, "client can't be null");
+        checkPositive(flushCount, "flushCount must be positive");
+        checkNotNegative(maxFlushDelay, "maxFlushDelay can't be negative");
+        checkNotNull(unit, "unit can't be null");
+        this.pipelining = new Pipelining<>(depth);
+        HazelcastClientInstanceImpl clientImpl = getClientImpl(client);
+        this.invocationService = (ClientInvocationServiceInternal) clientImpl.getInvocationService();
+        this.batch = new ClientWriteBatch(clientImpl.getTaskScheduler(), unit.toNanos(maxFlushDelay));
+        this.depth = depth;
+        this.flushCount = flushCount;
+        this.deferWrites = maxFlushDelay > 0;
+    }
+
+    /**
+     * Returns the results.
+     * <p>
+     * The results are returned in the order the requests were done.
+     * <p>
+     * This call flushes the deferred requests and waits till all requests
+     * have completed.
+     *
+     * @return the List of results.
+     * @throws Exception is something fails getting the results.
+     */
+    public List<E> results() throws Exception {
+        flush();
+        return pipelining.results();
+    }
+
+    /**
+     * Adds a request to this Pipelining or blocks until there is capacity to add
+     * the request to the Pipelining.
+     * <p>
+     * The invocations sent by the supplier on the calling thread are deferred
+     * until the Pipelining flushes.
+     *
+     * @param request the supplier making the asynchronous call
+     * @return the future returned by the supplier.
+     * @throws InterruptedException if the Thread got interrupted while adding the request to the Pipelining.
+     * @throws NullPointerException if request is null or returns null.
+     */
+    public CompletionStage<E> add(Supplier<? extends CompletionStage<E>> request) throws InterruptedException {
+        checkNotNull(request, "request can't be null");
+
+        CompletionStage<E> future;
+        if (deferWrites) {
+            invocationService.beginWriteBatch(batch);
+            try {
+                future = request.get();
+            } finally {
+                invocationService.endWriteBatch();
+            }
+        } else {
+            future = request.get();
+        }
+        checkNotNull(future, "future can't be null");
+
+        inFlight.incrementAndGet();
+        future.whenCompleteAsync((response, t) -> inFlight.decrementAndGet(), CALLER_RUNS);
+        if (++unflushed >= flushCount || inFlight.get() > depth) {
+            // either the batch is full or the Pipelining is going to block
+            // waiting for responses, which needs the requests to be written
+            flush();
+        }
+        return pipelining.add(future);
+    }
+
+    /**
+     * Writes the deferred requests of this Pipelining.
+     */
+    public void flush() {
+        unflushed = 0;
+        batch.flush();
+    }
+
+    private static HazelcastClientInstanceImpl getClientImpl(HazelcastInstance client) {
+        if (client instanceof HazelcastClientProxy proxy) {
+            HazelcastClientInstanceImpl clientImpl = proxy.client;
+            if (clientImpl == null) {
+                throw new HazelcastClientNotActiveException();
+            }
+            return clientImpl;
+        } else if (client instanceof HazelcastClientInstanceImpl clientImpl) {
+            return clientImpl;
+        }
+        throw new IllegalArgumentException("ClientPipelining can only be used with a client instance");
+    }
+}
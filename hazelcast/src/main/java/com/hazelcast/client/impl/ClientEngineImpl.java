@@ -27,6 +27,7 @@ import com.hazelcast.client.impl.protocol.task.AbstractMessageTask;
 import com.hazelcast.client.impl.protocol.task.AbstractPartitionMessageTask;
 import com.hazelcast.client.impl.protocol.task.AuthenticationBaseMessageTask;
 import com.hazelcast.client.impl.protocol.task.BlockingMessageTask;
+import com.hazelcast.client.impl.protocol.task.DirectForwardingMessageTask;
 import com.hazelcast.client.impl.protocol.task.MessageTask;
 import com.hazelcast.client.impl.protocol.task.TransactionalMessageTask;
 import com.hazelcast.client.impl.protocol.task.UrgentMessageTask;
@@ -140,6 +141,7 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
     private final AddressChecker addressChecker;
     private final IOBufferAllocator responseBufAllocator = new ConcurrentIOBufferAllocator(4096, true);
     private final boolean tpcEnabled;
+    private final boolean directForwardingEnabled;
     private final CPGroupViewListenerService cpGroupViewListenerService;
 
     // not final for the testing purposes
@@ -164,6 +166,9 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         this.endpointStatisticsManager = PhoneHome.isPhoneHomeEnabled(node)
                 ? new ClientEndpointStatisticsManagerImpl() : new NoOpClientEndpointStatisticsManager();
         this.tpcEnabled = nodeEngine.getTpcServerBootstrap().isEnabled();
+        this.directForwardingEnabled = !tpcEnabled && node.securityContext == null
+                && !nodeEngine.getNamespaceService().isEnabled()
+                && node.getProperties().getBoolean(ClusterProperty.CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED);
         this.cpGroupViewListenerService = createCpGroupViewListenerService();
     }
 
@@ -256,7 +261,12 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         if (isUrgent(messageTask)) {
             operationService.execute((UrgentMessageTask) messageTask);
         } else if (messageTask instanceof AbstractPartitionMessageTask task) {
-            operationService.execute(task);
+            if (isDirectForwarded(task)) {
+                task.setDirectForwarding();
+                task.run();
+            } else {
+                operationService.execute(task);
+            }
         } else if (isQuery(messageTask)) {
             queryExecutor.execute(messageTask);
         } else if (messageTask instanceof TransactionalMessageTask) {
@@ -275,6 +285,21 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
         return messageTask instanceof UrgentMessageTask;
     }
 
+    private boolean isDirectForwarded(AbstractPartitionMessageTask<?> task) {
+        // only the whitelisted tasks are run on the I/O thread, the others may block it
+        return directForwardingEnabled
+                && task instanceof DirectForwardingMessageTask
+                && isOwnedByOtherMember(task.getPartitionId());
+    }
+
+    private boolean isOwnedByOtherMember(int partitionId) {
+        if (partitionId < 0) {
+            return false;
+        }
+        Address owner = nodeEngine.getPartitionService().getPartitionOwner(partitionId);
+        return owner != null && !owner.equals(node.getThisAddress());
+    }
+
     private boolean isQuery(MessageTask messageTask) {
         return messageTask instanceof AbstractMapQueryMessageTask
                 || messageTask instanceof SqlAbstractMessageTask;
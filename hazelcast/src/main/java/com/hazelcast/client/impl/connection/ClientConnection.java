@@ -19,6 +19,7 @@ package com.hazelcast.client.impl.connection;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.spi.EventHandler;
 import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.nio.Connection;
 
 import javax.annotation.Nullable;
@@ -41,6 +42,23 @@ public interface ClientConnection extends Connection {
      */
     void handleClientMessage(ClientMessage message);
 
+    /**
+     * Queues the frame without scheduling the underlying channel for writing.
+     * The frame is written by the next {@link #flush()} or {@link #write(OutboundFrame)}.
+     *
+     * @param frame the frame to write.
+     * @return false if the frame was not accepted to be written, e.g. because the connection was not alive.
+     */
+    default boolean writeDeferred(OutboundFrame frame) {
+        return write(frame);
+    }
+
+    /**
+     * Schedules the writing of the frames queued by {@link #writeDeferred(OutboundFrame)}.
+     */
+    default void flush() {
+    }
+
     EventHandler getEventHandler(long correlationId);
 
     void removeEventHandler(long correlationId);
@@ -127,6 +127,34 @@ public class TcpClientConnection implements ClientConnection {
         return tpcChannels[channelIndex].write(frame);
     }
 
+    @Override
+    public boolean writeDeferred(OutboundFrame frame) {
+        Channel[] tpcChannels = this.tpcChannels;
+        if (tpcChannels == null) {
+            return channel.writeDeferred(frame);
+        }
+
+        ClientMessage clientMessage = (ClientMessage) frame;
+        int partitionId = clientMessage.getPartitionId();
+        if (partitionId < 0) {
+            return channel.writeDeferred(frame);
+        }
+
+        int channelIndex = partitionId % tpcChannels.length;
+        return tpcChannels[channelIndex].writeDeferred(frame);
+    }
+
+    @Override
+    public void flush() {
+        channel.flush();
+        Channel[] tpcChannels = this.tpcChannels;
+        if (tpcChannels != null) {
+            for (Channel tpcChannel : tpcChannels) {
+                tpcChannel.flush();
+            }
+        }
+    }
+
     @Override
     public void setRemoteAddress(Address remoteAddress) {
         this.remoteAddress = remoteAddress;
@@ -37,7 +37,7 @@ import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCod
  * Creates a publisher that does not include value for the cache events it sends.
  */
 @SuppressWarnings("unused")
-@Generated("a2e19474678fa6046b0f842812c2e6f5")
+@Generated("16c718e73c922ce2fca7602f91ccebb0")
 public final class ContinuousQueryPublisherCreateCodec {
     //hex: 0x160200
     public static final int REQUEST_MESSAGE_TYPE = 1442304;
@@ -153,4 +153,14 @@ public final class ContinuousQueryPublisherCreateCodec {
         iterator.next();
         return ListMultiFrameCodec.decode(iterator, DataCodec::decode);
     }
+
+    /**
+     * Array of keys, decoded one at a time while the returned iterator is consumed.
+     */
+    public static java.util.Iterator<com.hazelcast.internal.serialization.Data> decodeResponseLazily(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        //empty initial frame
+        iterator.next();
+        return ListMultiFrameCodec.decodeLazily(iterator, DataCodec::decode);
+    }
 }
@@ -37,7 +37,7 @@ import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCod
  * Creates a publisher that includes value for the cache events it sends.
  */
 @SuppressWarnings("unused")
-@Generated("02eeca78105664fa16f8ea91f7ae3aa8")
+@Generated("30f0220f4c237455a71cf4093deffeb7")
 public final class ContinuousQueryPublisherCreateWithValueCodec {
     //hex: 0x160100
     public static final int REQUEST_MESSAGE_TYPE = 1442048;
@@ -153,4 +153,14 @@ public final class ContinuousQueryPublisherCreateWithValueCodec {
         iterator.next();
         return EntryListCodec.decode(iterator, DataCodec::decode, DataCodec::decode);
     }
+
+    /**
+     * Array of key-value pairs, decoded one at a time while the returned iterator is consumed.
+     */
+    public static java.util.Iterator<java.util.Map.Entry<com.hazelcast.internal.serialization.Data, com.hazelcast.internal.serialization.Data>> decodeResponseLazily(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        //empty initial frame
+        iterator.next();
+        return EntryListCodec.decodeLazily(iterator, DataCodec::decode, DataCodec::decode);
+    }
 }
@@ -21,6 +21,7 @@ import com.hazelcast.client.impl.protocol.ClientMessage;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -74,6 +75,22 @@ public final class EntryListCodec {
         return result;
     }
 
+    /**
+     * Returns an iterator decoding the entries one at a time, instead of collecting
+     * them into a list.
+     *
+     * @see ListMultiFrameCodec#decodeLazily(ClientMessage.ForwardFrameIterator, Function)
+     */
+    public static <K, V> Iterator<Map.Entry<K, V>> decodeLazily(ClientMessage.ForwardFrameIterator iterator,
+                                                                Function<ClientMessage.ForwardFrameIterator, K> decodeKeyFunc,
+                                                                Function<ClientMessage.ForwardFrameIterator, V> decodeValueFunc) {
+        return ListMultiFrameCodec.decodeLazily(iterator, frames -> {
+            K key = decodeKeyFunc.apply(frames);
+            V value = decodeValueFunc.apply(frames);
+            return new AbstractMap.SimpleEntry<>(key, value);
+        });
+    }
+
     public static <K, V> List<Map.Entry<K, V>> decodeNullable(ClientMessage.ForwardFrameIterator iterator,
                                                               Function<ClientMessage.ForwardFrameIterator, K> decodeKeyFunc,
                                                               Function<ClientMessage.ForwardFrameIterator, V> decodeValueFunc) {
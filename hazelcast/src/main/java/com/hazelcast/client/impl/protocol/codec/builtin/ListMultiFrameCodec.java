@@ -22,7 +22,9 @@ import com.hazelcast.vector.VectorValues;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -82,6 +84,19 @@ public final class ListMultiFrameCodec {
         return result;
     }
 
+    /**
+     * Returns an iterator decoding the items one at a time, instead of collecting
+     * them into a list. The begin frame is consumed by this call and the end frame
+     * once the iterator is exhausted, so the list must be iterated fully before
+     * the frames after it are decoded.
+     */
+    public static <T> Iterator<T> decodeLazily(ClientMessage.ForwardFrameIterator iterator,
+                                               Function<ClientMessage.ForwardFrameIterator, T> decodeFunction) {
+        //begin frame, list
+        iterator.next();
+        return new LazyDecodingIterator<>(iterator, decodeFunction);
+    }
+
     public static <T> List<T> decodeContainsNullable(ClientMessage.ForwardFrameIterator iterator,
                                                      Function<ClientMessage.ForwardFrameIterator, T> decodeFunction) {
         List<T> result = new ArrayList<>();
@@ -123,4 +138,39 @@ public final class ListMultiFrameCodec {
             encode(clientMessage, collection, encodeFunction);
         }
     }
+
+    private static final class LazyDecodingIterator<T> implements Iterator<T> {
+
+        private final ClientMessage.ForwardFrameIterator iterator;
+        private final Function<ClientMessage.ForwardFrameIterator, T> decodeFunction;
+        private boolean exhausted;
+
+        LazyDecodingIterator(ClientMessage.ForwardFrameIterator iterator,
+                             Function<ClientMessage.ForwardFrameIterator, T> decodeFunction) {
+            this.iterator = iterator;
+            this.decodeFunction = decodeFunction;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (exhausted) {
+                return false;
+            }
+            if (nextFrameIsDataStructureEndFrame(iterator)) {
+                //end frame, list
+                iterator.next();
+                exhausted = true;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return decodeFunction.apply(iterator);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.UserCodeNamespacePermission;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationservice.InvocationBuilder;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.security.Permission;
@@ -36,6 +37,8 @@ public abstract class AbstractPartitionMessageTask<P>
         implements PartitionSpecificRunnable {
 
     private boolean namespaceAware;
+    private boolean directForwarding;
+
     protected AbstractPartitionMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
     }
@@ -47,6 +50,18 @@ public abstract class AbstractPartitionMessageTask<P>
         this.namespaceAware = true;
     }
 
+    /**
+     * Marks this task to be run on the thread that received the client message
+     * instead of a partition thread, because another member owns the partition.
+     * The operation is then invoked without running on the calling thread.
+     * Only tasks implementing {@link DirectForwardingMessageTask} are marked.
+     *
+     * @see com.hazelcast.spi.properties.ClusterProperty#CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED
+     */
+    public final void setDirectForwarding() {
+        this.directForwarding = true;
+    }
+
     @Override
     protected void processMessage() {
         // Providing Namespace awareness here covers calls in #beforeProcess() as well as #processInternal()
@@ -69,8 +84,13 @@ public abstract class AbstractPartitionMessageTask<P>
             op.setClientCallId(clientMessage.getCorrelationId());
         }
         op.setCallerUuid(endpoint.getUuid());
-        return nodeEngine.getOperationService().createInvocationBuilder(getServiceName(), op, getPartitionId())
-                         .setResultDeserialized(false).invoke();
+        InvocationBuilder builder = nodeEngine.getOperationService()
+                                              .createInvocationBuilder(getServiceName(), op, getPartitionId())
+                                              .setResultDeserialized(false);
+        if (directForwarding) {
+            builder.setAsync();
+        }
+        return builder.invoke();
     }
 
     @Override
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task;
+
+/**
+ * Marker interface for partition specific tasks which can be run on the
+ * thread that received the client message when another member owns the
+ * partition, see
+ * {@link com.hazelcast.spi.properties.ClusterProperty#CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED}.
+ *
+ * <p>Only tasks that never block until their operation is invoked may
+ * implement this interface: decoding the request and preparing the
+ * operation must not create proxies or containers, run user code or wait
+ * for anything.
+ */
+public interface DirectForwardingMessageTask {
+}
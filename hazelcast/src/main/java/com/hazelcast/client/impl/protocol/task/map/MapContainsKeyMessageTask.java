@@ -18,6 +18,7 @@ package com.hazelcast.client.impl.protocol.task.map;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapContainsKeyCodec;
+import com.hazelcast.client.impl.protocol.task.DirectForwardingMessageTask;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.map.impl.LocalMapStatsProvider;
@@ -32,7 +33,8 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 import java.security.Permission;
 
 public class MapContainsKeyMessageTask
-        extends AbstractMapPartitionMessageTask<MapContainsKeyCodec.RequestParameters> {
+        extends AbstractMapPartitionMessageTask<MapContainsKeyCodec.RequestParameters>
+        implements DirectForwardingMessageTask {
 
     public MapContainsKeyMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
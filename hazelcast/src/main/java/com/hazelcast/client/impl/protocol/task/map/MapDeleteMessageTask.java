@@ -18,6 +18,7 @@ package com.hazelcast.client.impl.protocol.task.map;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapDeleteCodec;
+import com.hazelcast.client.impl.protocol.task.DirectForwardingMessageTask;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.util.Timer;
@@ -33,7 +34,8 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 import java.security.Permission;
 
 public class MapDeleteMessageTask
-        extends AbstractMapPartitionMessageTask<MapDeleteCodec.RequestParameters> {
+        extends AbstractMapPartitionMessageTask<MapDeleteCodec.RequestParameters>
+        implements DirectForwardingMessageTask {
 
     private transient long startTimeNanos;
 
@@ -28,7 +28,6 @@ import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.ExceptionUtil;
-import com.hazelcast.internal.util.collection.InflatableSet;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.query.QueryResult;
 import com.hazelcast.map.impl.query.QueryResultRow;
@@ -44,7 +43,6 @@ import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.Future;
 
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
@@ -92,10 +90,8 @@ public class MapPublisherCreateMessageTask
         }
     }
 
-    private static Set<Data> fetchMapSnapshotFrom(List<Future> futures) {
-        List<Object> queryResults = new ArrayList<>(futures.size());
-        int queryResultSize = 0;
-
+    private static Collection<Data> fetchMapSnapshotFrom(List<Future> futures) {
+        List<QueryResult> queryResults = new ArrayList<>(futures.size());
         for (Future future : futures) {
             Object result;
             try {
@@ -103,25 +99,12 @@ public class MapPublisherCreateMessageTask
             } catch (Throwable t) {
                 throw ExceptionUtil.rethrow(t);
             }
-            if (result == null) {
-                continue;
-            }
-
-            queryResults.add(result);
-            queryResultSize += ((QueryResult) result).size();
-        }
-
-        return unpackResults(queryResults, queryResultSize);
-    }
-
-    private static Set<Data> unpackResults(List<Object> results, int numOfEntries) {
-        InflatableSet.Builder<Data> builder = InflatableSet.newBuilder(numOfEntries);
-        for (Object result : results) {
-            for (QueryResultRow row : (QueryResult) result) {
-                builder.add(row.getKey());
+            if (result != null) {
+                queryResults.add((QueryResult) result);
             }
         }
-        return builder.build();
+        // the rows are encoded straight from the query results
+        return new QueryResultRowsView<>(queryResults, QueryResultRow::getKey);
     }
 
     @Override
@@ -131,7 +114,7 @@ public class MapPublisherCreateMessageTask
 
     @Override
     protected ClientMessage encodeResponse(Object response) {
-        return ContinuousQueryPublisherCreateCodec.encodeResponse((Set<Data>) response);
+        return ContinuousQueryPublisherCreateCodec.encodeResponse((Collection<Data>) response);
     }
 
     @Override
@@ -24,10 +24,8 @@ import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.cluster.ClusterService;
 import com.hazelcast.internal.namespace.NamespaceUtil;
-import com.hazelcast.internal.util.collection.InflatableSet;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.query.QueryResult;
-import com.hazelcast.map.impl.query.QueryResultRow;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.subscriber.operation.PublisherCreateOperation;
 import com.hazelcast.cluster.Address;
@@ -41,12 +39,10 @@ import com.hazelcast.spi.impl.operationservice.OperationService;
 import com.hazelcast.internal.util.ExceptionUtil;
 
 import java.security.Permission;
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
 
 import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
@@ -95,36 +91,21 @@ public class MapPublisherCreateWithValueMessageTask
         return futures;
     }
 
-    private static Set<Map.Entry<Data, Data>> fetchMapSnapshotFrom(List<Future> futures) {
-        List<Object> queryResults = new ArrayList<>(futures.size());
-        int queryResultSize = 0;
-
+    private static Collection<Map.Entry<Data, Data>> fetchMapSnapshotFrom(List<Future> futures) {
+        List<QueryResult> queryResults = new ArrayList<>(futures.size());
         for (Future future : futures) {
             Object result;
             try {
                 result = future.get();
-            } catch (Exception e) {
-                throw ExceptionUtil.rethrow(e);
-            }
-            if (result == null) {
-                continue;
+            } catch (Throwable t) {
+                throw ExceptionUtil.rethrow(t);
             }
-
-            queryResults.add(result);
-            queryResultSize += ((QueryResult) result).size();
-        }
-
-        return unpackResults(queryResults, queryResultSize);
-    }
-
-    private static Set<Map.Entry<Data, Data>> unpackResults(List<Object> results, int numOfEntries) {
-        InflatableSet.Builder<Map.Entry<Data, Data>> builder = InflatableSet.newBuilder(numOfEntries);
-        for (Object result : results) {
-            for (QueryResultRow row : (QueryResult) result) {
-                builder.add(new AbstractMap.SimpleEntry<Data, Data>(row.getKey(), row.getValue()));
+            if (result != null) {
+                queryResults.add((QueryResult) result);
             }
         }
-        return builder.build();
+        // the rows are encoded straight from the query results
+        return new QueryResultRowsView<>(queryResults, row -> row);
     }
 
     @Override
@@ -134,7 +115,7 @@ public class MapPublisherCreateWithValueMessageTask
 
     @Override
     protected ClientMessage encodeResponse(Object response) {
-        return ContinuousQueryPublisherCreateWithValueCodec.encodeResponse((Set<Map.Entry<Data, Data>>) response);
+        return ContinuousQueryPublisherCreateWithValueCodec.encodeResponse((Collection<Map.Entry<Data, Data>>) response);
     }
 
     @Override
@@ -18,6 +18,7 @@ package com.hazelcast.client.impl.protocol.task.map;
 
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapSetCodec;
+import com.hazelcast.client.impl.protocol.task.DirectForwardingMessageTask;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
@@ -30,7 +31,8 @@ import java.util.concurrent.TimeUnit;
 import static com.hazelcast.map.impl.record.Record.UNSET;
 
 public class MapSetMessageTask
-        extends AbstractMapSetMessageTask<MapSetCodec.RequestParameters> {
+        extends AbstractMapSetMessageTask<MapSetCodec.RequestParameters>
+        implements DirectForwardingMessageTask {
 
     public MapSetMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
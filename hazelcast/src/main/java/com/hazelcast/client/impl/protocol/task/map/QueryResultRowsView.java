@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.map;
+
+import com.hazelcast.map.impl.query.QueryResult;
+import com.hazelcast.map.impl.query.QueryResultRow;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read-only view of the rows of several query results. Used to encode the
+ * snapshots taken by the query cache publishers of all members without
+ * copying their rows into an intermediate collection.
+ *
+ * @param <E> the type of the elements mapped from the rows
+ */
+final class QueryResultRowsView<E> extends AbstractCollection<E> {
+
+    private final List<QueryResult> results;
+    private final Function<QueryResultRow, E> mapper;
+    private final int size;
+
+    QueryResultRowsView(List<QueryResult> results, Function<QueryResultRow, E> mapper) {
+        this.results = results;
+        this.mapper = mapper;
+        int size = 0;
+        for (QueryResult result : results) {
+            size += result.size();
+        }
+        this.size = size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return results.stream()
+                      .flatMap(result -> result.getRows().stream())
+                      .map(mapper)
+                      .iterator();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
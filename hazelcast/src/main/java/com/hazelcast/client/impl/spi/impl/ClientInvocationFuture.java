@@ -42,6 +42,7 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
     private final ClientMessage request;
     private final ClientInvocation invocation;
     private final CallIdSequence callIdSequence;
+    private volatile ClientWriteBatch writeBatch;
 
     public ClientInvocationFuture(ClientInvocation invocation,
                                   ClientMessage request,
@@ -68,6 +69,21 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
         completeExceptionallyInternal(new InterruptedException());
     }
 
+    @Override
+    protected void onBlock() {
+        // the request may still be deferred in a write batch, it has to be
+        // written before waiting for its response
+        ClientWriteBatch batch = writeBatch;
+        if (batch != null) {
+            writeBatch = null;
+            batch.flush();
+        }
+    }
+
+    void setWriteBatch(ClientWriteBatch writeBatch) {
+        this.writeBatch = writeBatch;
+    }
+
     @Override
     protected Object resolve(Object value) {
         if (value instanceof Throwable throwable) {
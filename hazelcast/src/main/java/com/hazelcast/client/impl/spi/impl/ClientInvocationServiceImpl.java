@@ -100,6 +100,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final RoutingMode routingMode;
+    private final ThreadLocal<ClientWriteBatch> writeBatch = new ThreadLocal<>();
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -284,7 +285,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         //Connection could be closed. From this point on, we need to reacquire the permission to notify if needed.
         invocation.setSentConnection(connection);
 
-        if (!connection.write(clientMessage)) {
+        if (!write(invocation, connection, clientMessage)) {
             if (invocation.getPermissionToNotifyForDeadConnection(connection)) {
                 IOException exception = new IOException("Packet not sent to " + connection.getRemoteAddress() + " "
                         + clientMessage);
@@ -297,6 +298,29 @@ public class ClientInvocationServiceImpl implements ClientInvocationServiceInter
         return true;
     }
 
+    private boolean write(ClientInvocation invocation, ClientConnection connection, ClientMessage clientMessage) {
+        ClientWriteBatch batch = writeBatch.get();
+        if (batch == null) {
+            return connection.write(clientMessage);
+        }
+        if (!connection.writeDeferred(clientMessage)) {
+            return false;
+        }
+        invocation.getClientInvocationFuture().setWriteBatch(batch);
+        batch.add(connection);
+        return true;
+    }
+
+    @Override
+    public void beginWriteBatch(ClientWriteBatch batch) {
+        writeBatch.set(batch);
+    }
+
+    @Override
+    public void endWriteBatch() {
+        writeBatch.remove();
+    }
+
     // package-visible for tests
     void registerInvocation(ClientInvocation clientInvocation, ClientConnection connection) {
         ClientMessage clientMessage = clientInvocation.getClientMessage();
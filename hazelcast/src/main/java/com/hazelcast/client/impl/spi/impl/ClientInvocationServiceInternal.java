@@ -62,6 +62,22 @@ public interface ClientInvocationServiceInternal extends ClientInvocationService
      */
     void deRegisterInvocation(long callId);
 
+    /**
+     * Defers the connection writes of the invocations sent by the calling thread
+     * until {@link #endWriteBatch()} is called. The connections with deferred
+     * writes are collected in the given batch, and the writes happen when the
+     * batch is flushed.
+     *
+     * @param batch the batch collecting the connections with deferred writes
+     */
+    void beginWriteBatch(ClientWriteBatch batch);
+
+    /**
+     * Stops deferring the connection writes of the invocations sent by the
+     * calling thread. The batch itself is not flushed.
+     */
+    void endWriteBatch();
+
     /**
      * Check the connected state and user connection strategy configuration to see
      * if an invocation is allowed at the moment
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Collects the connections that have deferred writes of invocations sent
+ * while the batch was active on a thread, see
+ * {@link ClientInvocationServiceInternal#beginWriteBatch(ClientWriteBatch)}.
+ * <p>
+ * Invocations sent to the same connection are written together when the
+ * batch is flushed, instead of each invocation scheduling its own write.
+ * The batch is flushed at the latest after the maximum flush delay since the
+ * first deferred write, and before a thread blocks waiting for the response
+ * of one of its invocations.
+ * <p>
+ * This class is thread-safe; a batch can be flushed from any thread.
+ */
+public final class ClientWriteBatch {
+
+    private final Set<ClientConnection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final TaskScheduler taskScheduler;
+    private final long maxFlushDelayNanos;
+    private volatile ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param taskScheduler      the scheduler of the delayed flushes
+     * @param maxFlushDelayNanos the maximum time a write stays deferred
+     */
+    public ClientWriteBatch(TaskScheduler taskScheduler, long maxFlushDelayNanos) {
+        this.taskScheduler = taskScheduler;
+        this.maxFlushDelayNanos = maxFlushDelayNanos;
+    }
+
+    void add(ClientConnection connection) {
+        connections.add(connection);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduledFlush = taskScheduler.schedule(this::flush, maxFlushDelayNanos, NANOSECONDS);
+        }
+    }
+
+    /**
+     * Schedules the writing of the deferred invocations of all connections
+     * in this batch.
+     *
+     * @return the number of flushed connections
+     */
+    public int flush() {
+        if (flushScheduled.compareAndSet(true, false)) {
+            // the connections added from now on schedule a new delayed flush
+            ScheduledFuture<?> future = scheduledFlush;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+        int flushed = 0;
+        Iterator<ClientConnection> iterator = connections.iterator();
+        while (iterator.hasNext()) {
+            ClientConnection connection = iterator.next();
+            iterator.remove();
+            connection.flush();
+            flushed++;
+        }
+        return flushed;
+    }
+}
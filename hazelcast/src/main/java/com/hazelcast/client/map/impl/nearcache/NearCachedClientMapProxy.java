@@ -28,6 +28,7 @@ import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
 import com.hazelcast.client.impl.spi.impl.ListenerMessageCodec;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.EntryView;
+import com.hazelcast.core.OperationTimeoutException;
 import com.hazelcast.internal.adapter.IMapDataStructureAdapter;
 import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.internal.nearcache.NearCache;
@@ -52,8 +53,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.core.EntryEventType.INVALIDATION;
 import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
 import static com.hazelcast.internal.nearcache.NearCache.NOT_CACHED;
@@ -64,7 +70,9 @@ import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
+import static com.hazelcast.spi.impl.InternalCompletableFuture.newDelegatingFuture;
 import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * A Client-side {@code IMap} implementation which is fronted by a Near Cache.
@@ -76,6 +84,8 @@ import static java.util.Collections.emptyMap;
 public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
     private boolean serializeKeys;
+    private boolean readCoalescing;
+    private long remoteReadTimeoutMillis;
     private NearCache<Object, Object> nearCache;
 
     private volatile UUID invalidationListenerId;
@@ -90,6 +100,8 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
 
         NearCacheConfig nearCacheConfig = getContext().getClientConfig().getNearCacheConfig(name);
         serializeKeys = nearCacheConfig.isSerializeKeys();
+        readCoalescing = getClient().getProperties().getBoolean(NearCache.READ_COALESCING_ENABLED);
+        remoteReadTimeoutMillis = getClient().getProperties().getPositiveMillisOrDefault(INVOCATION_TIMEOUT_SECONDS);
 
         NearCacheManager nearCacheManager = getContext().getNearCacheManager(getServiceName());
         nearCache = nearCacheManager.getOrCreateNearCache(name, nearCacheConfig);
@@ -122,6 +134,10 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
             return value;
         }
 
+        if (readCoalescing) {
+            return getCoalesced(key);
+        }
+
         try {
             Data keyData = toData(key);
             long reservationId = nearCache.tryReserveForUpdate(key, keyData, READ_UPDATE);
@@ -136,6 +152,31 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private V getCoalesced(Object key) {
+        CompletableFuture<Object> remoteRead = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightRead = nearCache.tryJoinRemoteRead(key, remoteRead);
+        if (inFlightRead != remoteRead) {
+            // another thread is reading the key, so we wait for its value
+            return (V) joinRemoteRead(inFlightRead);
+        }
+
+        try {
+            Data keyData = toData(key);
+            long reservationId = nearCache.tryReserveForUpdate(key, keyData, READ_UPDATE);
+            V value = (V) super.getInternal(keyData);
+            completeRemoteRead(key, remoteRead, value, null);
+            if (reservationId != NOT_RESERVED) {
+                value = (V) tryPublishReserved(key, value, reservationId);
+            }
+            return value;
+        } catch (Throwable throwable) {
+            completeRemoteRead(key, remoteRead, null, throwable);
+            invalidateNearCache(key);
+            throw rethrow(throwable);
+        }
+    }
+
     @Override
     protected boolean setTtlInternal(Object key, long ttl, TimeUnit timeUnit) {
         key = toNearCacheKey(key);
@@ -156,6 +197,10 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
             return newCompletedFuture(value, getSerializationService());
         }
 
+        if (readCoalescing) {
+            return getAsyncCoalesced(ncKey);
+        }
+
         Data keyData = toData(ncKey);
         final long reservationId = nearCache.tryReserveForUpdate(ncKey, keyData, READ_UPDATE);
         ClientInvocationFuture invocationFuture;
@@ -181,6 +226,55 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
                 getSerializationService(), MapGetCodec::decodeResponse);
     }
 
+    private InternalCompletableFuture<V> getAsyncCoalesced(Object ncKey) {
+        CompletableFuture<Object> remoteRead = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightRead = nearCache.tryJoinRemoteRead(ncKey, remoteRead);
+        if (inFlightRead != remoteRead) {
+            // another thread is reading the key, so we wait for its value
+            InternalCompletableFuture<Data> future = new InternalCompletableFuture<>();
+            inFlightRead.copy().orTimeout(remoteReadTimeoutMillis, MILLISECONDS).whenComplete((response, t) -> {
+                if (t == null) {
+                    future.complete((Data) response);
+                } else if (t instanceof TimeoutException) {
+                    future.completeExceptionally(newRemoteReadTimeoutException());
+                } else {
+                    // the copy wraps the failure of the remote read
+                    future.completeExceptionally(t instanceof CompletionException ? t.getCause() : t);
+                }
+            });
+            return newDelegatingFuture(getSerializationService(), future);
+        }
+
+        Data keyData = toData(ncKey);
+        final long reservationId = nearCache.tryReserveForUpdate(ncKey, keyData, READ_UPDATE);
+        ClientInvocationFuture invocationFuture;
+        try {
+            invocationFuture = super.getAsyncInternal(keyData);
+        } catch (Throwable t) {
+            completeRemoteRead(ncKey, remoteRead, null, t);
+            invalidateNearCache(ncKey);
+            throw rethrow(t);
+        }
+
+        invocationFuture.whenCompleteAsync((response, t) -> {
+            if (t == null) {
+                Data newDecodedResponse = MapGetCodec.decodeResponse(response);
+                completeRemoteRead(ncKey, remoteRead, newDecodedResponse, null);
+                if (reservationId != NOT_RESERVED) {
+                    nearCache.tryPublishReserved(ncKey, newDecodedResponse, reservationId, false);
+                }
+            } else {
+                completeRemoteRead(ncKey, remoteRead, null, t);
+                if (reservationId != NOT_RESERVED) {
+                    invalidateNearCache(ncKey);
+                }
+            }
+        }, getClient().getTaskScheduler());
+
+        return new ClientDelegatingFuture<>(invocationFuture,
+                getSerializationService(), MapGetCodec::decodeResponse);
+    }
+
     @Override
     protected Data removeInternal(Object key) {
         key = toNearCacheKey(key);
@@ -633,6 +727,41 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         return cachedValue != null ? cachedValue : value;
     }
 
+    /**
+     * Finishes the remote read of the key and passes the value read or the
+     * failure to the threads waiting for it.
+     */
+    private void completeRemoteRead(Object key, CompletableFuture<Object> remoteRead, Object value, Throwable failure) {
+        nearCache.finishRemoteRead(key, remoteRead);
+        if (failure == null) {
+            remoteRead.complete(value);
+        } else {
+            remoteRead.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Waits for the remote read of another thread, at most for the
+     * invocation timeout as the read itself would.
+     */
+    private Object joinRemoteRead(CompletableFuture<Object> remoteRead) {
+        try {
+            return remoteRead.get(remoteReadTimeoutMillis, MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            throw newRemoteReadTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rethrow(e);
+        }
+    }
+
+    private OperationTimeoutException newRemoteReadTimeoutException() {
+        return new OperationTimeoutException("Waiting for the remote read of the key on map " + name
+                + " timed out after " + remoteReadTimeoutMillis + " ms");
+    }
+
     private Object getCachedValue(Object key, boolean deserializeValue) {
         Object value = nearCache.get(key);
         if (value == null) {
@@ -24,13 +24,10 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.map.impl.querycache.InvokerWrapper;
 import com.hazelcast.map.impl.querycache.accumulator.AccumulatorInfo;
 import com.hazelcast.map.impl.querycache.subscriber.AbstractQueryCacheEndToEndConstructor;
-import com.hazelcast.map.impl.querycache.subscriber.InternalQueryCache;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheEndToEndConstructor;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest;
 
-import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -51,12 +48,11 @@ public class ClientQueryCacheEndToEndConstructor extends AbstractQueryCacheEndTo
         InvokerWrapper invokerWrapper = context.getInvokerWrapper();
         ClientMessage response = (ClientMessage) invokerWrapper.invoke(publisherCreateMessage, urgent);
 
+        // the snapshot is decoded while it is added to the query cache instead of being collected first
         if (info.isIncludeValue()) {
-            Collection<Map.Entry<Data, Data>> result = ContinuousQueryPublisherCreateWithValueCodec.decodeResponse(response);
-            prepopulate(queryCache, result);
+            queryCache.prepopulate(ContinuousQueryPublisherCreateWithValueCodec.decodeResponseLazily(response));
         } else {
-            List<Data> result = ContinuousQueryPublisherCreateCodec.decodeResponse(response);
-            prepopulate(queryCache, result);
+            queryCache.prepopulate(new CachedEntryIterator(ContinuousQueryPublisherCreateCodec.decodeResponseLazily(response)));
         }
 
 
@@ -88,15 +84,6 @@ public class ClientQueryCacheEndToEndConstructor extends AbstractQueryCacheEndTo
         context.getInvokerWrapper().invokeOnAllPartitions(request, urgent);
     }
 
-    private static void prepopulate(InternalQueryCache queryCache, Collection<Map.Entry<Data, Data>> result) {
-        queryCache.prepopulate(result.iterator());
-    }
-
-    private static void prepopulate(InternalQueryCache queryCache, List<Data> result) {
-        Iterator<Map.Entry<Data, Data>> iterator = new CachedEntryIterator(result.iterator());
-        queryCache.prepopulate(iterator);
-    }
-
     // Adapts an Iterator<List<Data>> of keys as an Iterator<Map.Entry<Data, Data>> of KVs with null value
     private static final class CachedEntryIterator implements Iterator<Map.Entry<Data, Data>> {
         private final Iterator<Data> keyIterator;
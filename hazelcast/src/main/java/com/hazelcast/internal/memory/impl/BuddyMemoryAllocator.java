@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.util.collection.Long2LongHashMap;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.internal.util.QuickMath.isPowerOfTwo;
+import static com.hazelcast.internal.util.QuickMath.log2;
+
+/**
+ * {@link MemoryAllocator} which splits large pages into blocks using the buddy
+ * algorithm.
+ * <p>
+ * The pages are allocated from a system allocator, e.g. {@link UnsafeMalloc},
+ * and a block of a page is {@code minBlockSize << order} bytes. An allocation
+ * takes the smallest free block that fits, splitting a larger free block in
+ * halves if needed. A freed block is merged with its buddy, the other half of
+ * the block it was split from, as long as the buddy is free as well. Requests
+ * larger than a page are passed to the system allocator.
+ * <p>
+ * Free blocks are linked into a list per order, using the first 16 bytes of the
+ * blocks themselves, so the heap used by the allocator only depends on the
+ * number of free blocks. One fully free page is kept to avoid returning and
+ * allocating pages repeatedly; the other fully free pages are released.
+ * <p>
+ * The memory statistics, like {@link #getFragmentation()}, are useful to see
+ * how well the page and block sizes match the allocation sizes. This class is
+ * thread safe.
+ */
+public final class BuddyMemoryAllocator implements MemoryAllocator {
+
+    /**
+     * Default size of the pages allocated from the system allocator.
+     */
+    public static final long DEFAULT_PAGE_SIZE = 1L << 22;
+
+    /**
+     * Default size of the smallest block.
+     */
+    public static final long DEFAULT_MIN_BLOCK_SIZE = 16;
+
+    private static final long NEXT_OFFSET = 0;
+    private static final long PREV_OFFSET = 8;
+    private static final long MIN_BLOCK_SIZE_LOWER_BOUND = 16;
+    private static final int INITIAL_PAGE_CAPACITY = 16;
+    private static final long NOT_FREE = -1;
+
+    private final MemoryAllocator systemAllocator;
+    private final MemoryAccessor mem;
+    private final long capacity;
+    private final long pageSize;
+    private final int minBlockShift;
+    private final int pageOrder;
+
+    // heads of the lists of free blocks, indexed by order
+    private final long[] freeLists;
+    // the order of each free block of the pages, to find free buddies
+    private final Long2LongHashMap freeBlocks = new Long2LongHashMap(NOT_FREE);
+    // the blocks larger than a page, allocated from the system allocator
+    private final Long2LongHashMap largeBlocks = new Long2LongHashMap(NOT_FREE);
+    // the base addresses of the pages, in ascending order
+    private long[] pages = new long[INITIAL_PAGE_CAPACITY];
+    private int pageCount;
+
+    private long committedMemory;
+    private long usedMemory;
+    private long freeMemory;
+
+    /**
+     * Creates a BuddyMemoryAllocator.
+     *
+     * @param systemAllocator the allocator providing pages and blocks larger than a page
+     * @param mem             the accessor to the memory of the system allocator
+     * @param capacity        the maximum number of bytes taken from the system allocator
+     * @param pageSize        the size of a page, a power of two
+     * @param minBlockSize    the size of the smallest block, a power of two of at least 16 bytes
+     * @throws IllegalArgumentException if the sizes are not valid
+     */
+    public BuddyMemoryAllocator(MemoryAllocator systemAllocator, MemoryAccessor mem,
+                                long capacity, long pageSize, long minBlockSize) {
+        checkPositive("capacity", capacity);
+        checkTrue(isPowerOfTwo(pageSize), "pageSize must be a power of two, but was " + pageSize);
+        checkTrue(isPowerOfTwo(minBlockSize) && minBlockSize >= MIN_BLOCK_SIZE_LOWER_BOUND,
+                "minBlockSize must be a power of two of at least " + MIN_BLOCK_SIZE_LOWER_BOUND
+                        + ", but was " + minBlockSize);
+        checkTrue(minBlockSize <= pageSize, "minBlockSize can't be larger than pageSize");
+        this.systemAllocator = systemAllocator;
+        this.mem = mem;
+        this.capacity = capacity;
+        this.pageSize = pageSize;
+        this.minBlockShift = log2(minBlockSize);
+        this.pageOrder = log2(pageSize) - minBlockShift;
+        this.freeLists = new long[pageOrder + 1];
+    }
+
+    @Override
+    public synchronized long allocate(long size) {
+        checkPositive("size", size);
+        if (size > pageSize) {
+            return allocateLargeBlock(size);
+        }
+
+        int order = orderOf(size);
+        long address = allocateBlock(order);
+        mem.setMemory(address, size, (byte) 0);
+        return address;
+    }
+
+    @Override
+    public synchronized long reallocate(long address, long currentSize, long newSize) {
+        checkPositive("newSize", newSize);
+        if (currentSize <= pageSize && newSize <= pageSize && orderOf(currentSize) == orderOf(newSize)) {
+            // the block fits the new size already
+            if (newSize > currentSize) {
+                mem.setMemory(address + currentSize, newSize - currentSize, (byte) 0);
+            }
+            return address;
+        }
+
+        long newAddress = allocate(newSize);
+        mem.copyMemory(address, newAddress, Math.min(currentSize, newSize));
+        free(address, currentSize);
+        return newAddress;
+    }
+
+    @Override
+    public synchronized void free(long address, long size) {
+        checkPositive("size", size);
+        if (size > pageSize) {
+            freeLargeBlock(address, size);
+            return;
+        }
+
+        int order = orderOf(size);
+        long page = pageOf(address);
+        checkTrue(freeBlocks.get(address) == NOT_FREE, "Block at address " + address + " is already free");
+        long blockSize = blockSize(order);
+        usedMemory -= blockSize;
+        freeMemory += blockSize;
+
+        while (order < pageOrder) {
+            long buddy = page + ((address - page) ^ blockSize(order));
+            if (freeBlocks.get(buddy) != order) {
+                break;
+            }
+            removeFreeBlock(buddy, order);
+            address = Math.min(address, buddy);
+            order++;
+        }
+
+        if (order == pageOrder && freeLists[pageOrder] != NULL_ADDRESS) {
+            // there is a free page already
+            releasePage(address);
+        } else {
+            addFreeBlock(address, order);
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        for (int i = 0; i < pageCount; i++) {
+            systemAllocator.free(pages[i], pageSize);
+        }
+        largeBlocks.longForEach(systemAllocator::free);
+        largeBlocks.clear();
+        freeBlocks.clear();
+        Arrays.fill(freeLists, NULL_ADDRESS);
+        pageCount = 0;
+        committedMemory = 0;
+        usedMemory = 0;
+        freeMemory = 0;
+    }
+
+    /**
+     * @return the maximum number of bytes this allocator takes from the system allocator
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of bytes taken from the system allocator
+     */
+    public synchronized long getCommittedMemory() {
+        return committedMemory;
+    }
+
+    /**
+     * Returns the number of bytes in allocated blocks. Since blocks are rounded
+     * up to a power of two, this is larger than the sum of the requested sizes.
+     *
+     * @return the number of bytes in allocated blocks
+     */
+    public synchronized long getUsedMemory() {
+        return usedMemory;
+    }
+
+    /**
+     * @return the number of bytes in the free blocks of the pages
+     */
+    public synchronized long getFreeMemory() {
+        return freeMemory;
+    }
+
+    /**
+     * @return the size of the largest free block of the pages, or {@code 0} if there is none
+     */
+    public synchronized long getLargestFreeBlockSize() {
+        for (int order = pageOrder; order >= 0; order--) {
+            if (freeLists[order] != NULL_ADDRESS) {
+                return blockSize(order);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the external fragmentation of the free memory of the pages as
+     * {@code 1 - largest free block / free memory}. It is {@code 0} when all
+     * free memory is in a single block and gets close to {@code 1} when the
+     * free memory is spread over many small blocks.
+     *
+     * @return the fragmentation, between {@code 0} and {@code 1}
+     */
+    public synchronized double getFragmentation() {
+        return freeMemory == 0 ? 0 : 1 - (double) getLargestFreeBlockSize() / freeMemory;
+    }
+
+    private long allocateBlock(int order) {
+        int freeOrder = order;
+        while (freeOrder <= pageOrder && freeLists[freeOrder] == NULL_ADDRESS) {
+            freeOrder++;
+        }
+
+        long address;
+        if (freeOrder > pageOrder) {
+            address = allocatePage();
+            freeOrder = pageOrder;
+        } else {
+            address = freeLists[freeOrder];
+            removeFreeBlock(address, freeOrder);
+        }
+
+        // split the block, keeping the lower half
+        while (freeOrder > order) {
+            freeOrder--;
+            addFreeBlock(address + blockSize(freeOrder), freeOrder);
+        }
+
+        long blockSize = blockSize(order);
+        usedMemory += blockSize;
+        freeMemory -= blockSize;
+        return address;
+    }
+
+    private long allocatePage() {
+        ensureCapacity(pageSize);
+        long page = systemAllocator.allocate(pageSize);
+        if (pageCount == pages.length) {
+            pages = Arrays.copyOf(pages, pageCount * 2);
+        }
+        int index = -(Arrays.binarySearch(pages, 0, pageCount, page) + 1);
+        System.arraycopy(pages, index, pages, index + 1, pageCount - index);
+        pages[index] = page;
+        pageCount++;
+        committedMemory += pageSize;
+        freeMemory += pageSize;
+        return page;
+    }
+
+    private void releasePage(long page) {
+        int index = Arrays.binarySearch(pages, 0, pageCount, page);
+        System.arraycopy(pages, index + 1, pages, index, pageCount - index - 1);
+        pageCount--;
+        systemAllocator.free(page, pageSize);
+        committedMemory -= pageSize;
+        freeMemory -= pageSize;
+    }
+
+    private long pageOf(long address) {
+        int index = Arrays.binarySearch(pages, 0, pageCount, address);
+        if (index < 0) {
+            // the page is the one with the largest base address below the address
+            index = -(index + 1) - 1;
+        }
+        if (index < 0 || address >= pages[index] + pageSize) {
+            throw new IllegalArgumentException("Address " + address + " was not allocated by this allocator");
+        }
+        return pages[index];
+    }
+
+    private long allocateLargeBlock(long size) {
+        ensureCapacity(size);
+        long address = systemAllocator.allocate(size);
+        largeBlocks.put(address, size);
+        committedMemory += size;
+        usedMemory += size;
+        return address;
+    }
+
+    private void freeLargeBlock(long address, long size) {
+        long allocatedSize = largeBlocks.remove(address);
+        checkTrue(allocatedSize == size, "Block at address " + address + " was not allocated with size " + size);
+        systemAllocator.free(address, size);
+        committedMemory -= size;
+        usedMemory -= size;
+    }
+
+    private void ensureCapacity(long size) {
+        if (committedMemory + size > capacity) {
+            throw new NativeOutOfMemoryError("Not enough contiguous memory available! Cannot allocate " + size
+                    + " bytes. Capacity: " + capacity + ", committed: " + committedMemory + ", used: " + usedMemory
+                    + ", free: " + freeMemory + ", largest free block: " + getLargestFreeBlockSize());
+        }
+    }
+
+    private void addFreeBlock(long address, int order) {
+        long next = freeLists[order];
+        mem.putLong(address + NEXT_OFFSET, next);
+        mem.putLong(address + PREV_OFFSET, NULL_ADDRESS);
+        if (next != NULL_ADDRESS) {
+            mem.putLong(next + PREV_OFFSET, address);
+        }
+        freeLists[order] = address;
+        freeBlocks.put(address, order);
+    }
+
+    private void removeFreeBlock(long address, int order) {
+        long next = mem.getLong(address + NEXT_OFFSET);
+        long prev = mem.getLong(address + PREV_OFFSET);
+        if (prev == NULL_ADDRESS) {
+            freeLists[order] = next;
+        } else {
+            mem.putLong(prev + NEXT_OFFSET, next);
+        }
+        if (next != NULL_ADDRESS) {
+            mem.putLong(next + PREV_OFFSET, prev);
+        }
+        freeBlocks.remove(address);
+    }
+
+    private int orderOf(long size) {
+        long blocks = (size + blockSize(0) - 1) >>> minBlockShift;
+        return Long.SIZE - Long.numberOfLeadingZeros(blocks - 1);
+    }
+
+    private long blockSize(int order) {
+        return 1L << (minBlockShift + order);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryManager;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static com.hazelcast.internal.memory.impl.BuddyMemoryAllocator.DEFAULT_MIN_BLOCK_SIZE;
+import static com.hazelcast.internal.memory.impl.BuddyMemoryAllocator.DEFAULT_PAGE_SIZE;
+import static com.hazelcast.internal.util.Preconditions.checkState;
+
+/**
+ * {@link MemoryManager} of native memory which is allocated by a
+ * {@link BuddyMemoryAllocator} in pages taken from {@link UnsafeMalloc}.
+ * <p>
+ * Used by the {@link com.hazelcast.internal.nearcache.impl.store.NearCacheDirectDataRecordStore}
+ * to keep Near Cache values off-heap, each store owning its own manager.
+ */
+public final class BuddyMemoryManager implements MemoryManager {
+
+    private final BuddyMemoryAllocator allocator;
+
+    public BuddyMemoryManager(long capacity) {
+        this(capacity, DEFAULT_PAGE_SIZE, DEFAULT_MIN_BLOCK_SIZE);
+    }
+
+    public BuddyMemoryManager(long capacity, long pageSize, long minBlockSize) {
+        checkState(MEM_AVAILABLE, "No MemoryAccessor for native memory is available");
+        this.allocator = new BuddyMemoryAllocator(new UnsafeMalloc(), MEM, capacity, pageSize, minBlockSize);
+    }
+
+    @Override
+    public BuddyMemoryAllocator getAllocator() {
+        return allocator;
+    }
+
+    @Override
+    public MemoryAccessor getAccessor() {
+        return MEM;
+    }
+
+    @Override
+    public void dispose() {
+        allocator.dispose();
+    }
+}
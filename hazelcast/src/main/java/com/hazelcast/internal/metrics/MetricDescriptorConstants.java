@@ -122,6 +122,8 @@ public final class MetricDescriptorConstants {
     public static final String EVENT_METRIC_EVENT_SERVICE_SYNC_DELIVERY_FAILURE_COUNT = "syncDeliveryFailureCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
+    public static final String EVENT_METRIC_EVENT_SERVICE_BATCH_PACKET_COUNT = "batchPacketCount";
+    public static final String EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT = "batchedEventCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_LISTENER_COUNT = "listenerCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_PUBLICATION_COUNT = "publicationCount";
     // ===[/EVENT]======================================================
@@ -309,6 +311,7 @@ public final class MetricDescriptorConstants {
     public static final String NEARCACHE_METRIC_EXPIRATIONS = "expirations";
     public static final String NEARCACHE_METRIC_INVALIDATIONS = "invalidations";
     public static final String NEARCACHE_METRIC_INVALIDATION_REQUESTS = "invalidationRequests";
+    public static final String NEARCACHE_METRIC_COALESCED_MISSES = "coalescedMisses";
     public static final String NEARCACHE_METRIC_PERSISTENCE_COUNT = "persistenceCount";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_TIME = "lastPersistenceTime";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_DURATION = "lastPersistenceDuration";
@@ -374,6 +377,7 @@ public final class MetricDescriptorConstants {
     public static final String OPERATION_METRIC_EXECUTOR_PRIORITY_QUEUE_SIZE = "priorityQueueSize";
     public static final String OPERATION_METRIC_EXECUTOR_GENERIC_QUEUE_SIZE = "genericQueueSize";
     public static final String OPERATION_METRIC_EXECUTOR_GENERIC_PRIORITY_QUEUE_SIZE = "genericPriorityQueueSize";
+    public static final String OPERATION_METRIC_EXECUTOR_GENERIC_STOLEN_COUNT = "genericStolenCount";
     public static final String OPERATION_METRIC_EXECUTOR_COMPLETED_COUNT = "completedCount";
     public static final String OPERATION_METRIC_EXECUTOR_PARTITION_THREAD_COUNT = "partitionThreadCount";
     public static final String OPERATION_METRIC_EXECUTOR_GENERIC_THREAD_COUNT = "genericThreadCount";
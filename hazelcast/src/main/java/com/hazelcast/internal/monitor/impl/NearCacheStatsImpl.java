@@ -22,6 +22,7 @@ import com.hazelcast.nearcache.NearCacheStats;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAccumulator;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_COALESCED_MISSES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EVICTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EXPIRATIONS;
@@ -58,6 +59,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
             newUpdater(NearCacheStatsImpl.class, "invalidations");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> INVALIDATION_REQUESTS =
             newUpdater(NearCacheStatsImpl.class, "invalidationRequests");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> COALESCED_MISSES =
+            newUpdater(NearCacheStatsImpl.class, "coalescedMisses");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> PERSISTENCE_COUNT =
             newUpdater(NearCacheStatsImpl.class, "persistenceCount");
 
@@ -80,6 +83,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
     private volatile long invalidations;
     @Probe(name = NEARCACHE_METRIC_INVALIDATION_REQUESTS)
     private volatile long invalidationRequests;
+    @Probe(name = NEARCACHE_METRIC_COALESCED_MISSES)
+    private volatile long coalescedMisses;
 
     @Probe(name = NEARCACHE_METRIC_PERSISTENCE_COUNT)
     private volatile long persistenceCount;
@@ -107,6 +112,9 @@ public class NearCacheStatsImpl implements NearCacheStats {
         expirations = stats.getExpirations();
         invalidations = stats.getInvalidations();
         invalidationRequests = stats.getInvalidationRequests();
+        if (stats instanceof NearCacheStatsImpl statsImpl) {
+            coalescedMisses = statsImpl.getCoalescedMisses();
+        }
 
         persistenceCount = stats.getPersistenceCount();
         lastPersistenceTime = stats.getLastPersistenceTime();
@@ -238,6 +246,21 @@ public class NearCacheStatsImpl implements NearCacheStats {
         INVALIDATION_REQUESTS.incrementAndGet(this);
     }
 
+    /**
+     * Returns the number of misses which waited for the value being read
+     * by a concurrent miss on the same key, instead of reading the value
+     * themselves.
+     *
+     * @see com.hazelcast.internal.nearcache.NearCache#READ_COALESCING_ENABLED
+     */
+    public long getCoalescedMisses() {
+        return coalescedMisses;
+    }
+
+    public void incrementCoalescedMisses() {
+        COALESCED_MISSES.incrementAndGet(this);
+    }
+
     public void resetInvalidationEvents() {
         INVALIDATION_REQUESTS.set(this, 0);
     }
@@ -307,6 +330,7 @@ public class NearCacheStatsImpl implements NearCacheStats {
                 + ", expirations=" + expirations
                 + ", invalidations=" + invalidations
                 + ", invalidationRequests=" + invalidationRequests
+                + ", coalescedMisses=" + coalescedMisses
                 + ", lastPersistenceTime=" + lastPersistenceTime
                 + ", persistenceCount=" + persistenceCount
                 + ", lastPersistenceDuration=" + lastPersistenceDuration
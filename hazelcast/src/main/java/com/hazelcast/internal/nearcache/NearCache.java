@@ -24,6 +24,7 @@ import com.hazelcast.spi.impl.InitializingObject;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@link NearCache} is the contract point to store keys and values in underlying
@@ -58,6 +59,45 @@ public interface NearCache<K, V> extends InitializingObject {
             = new HazelcastProperty(PROP_EXPIRATION_TASK_PERIOD_SECONDS,
             DEFAULT_EXPIRATION_TASK_PERIOD_SECONDS);
 
+    String PROP_DIRECT_MEMORY_ENABLED = "hazelcast.nearcache.direct.memory.enabled";
+
+    /**
+     * When enabled, the Near Caches with {@link com.hazelcast.config.InMemoryFormat#BINARY}
+     * in-memory-format keep the serialized values in native memory instead of the
+     * Java heap, which keeps large Near Caches from adding to the garbage collection
+     * pauses. Reading a value from such a Near Cache copies it back to the heap.
+     * The native memory of a value is freed when the value is removed from the Near
+     * Cache, its total is bounded by the eviction policy of the Near Cache. The option
+     * is ignored if native memory can't be accessed on the running JVM.
+     */
+    HazelcastProperty DIRECT_MEMORY_ENABLED
+            = new HazelcastProperty(PROP_DIRECT_MEMORY_ENABLED, false);
+
+    String PROP_PRELOADER_STORE_VALUES = "hazelcast.nearcache.preloader.store.values";
+
+    /**
+     * When enabled, the Near Cache preloader stores the values and the
+     * invalidation metadata of their partitions together with the keys.
+     * On preload, the stored values of the partitions which have not been
+     * updated since the keys were stored are put into the Near Cache directly,
+     * only the keys of the other partitions are loaded from the data structure.
+     * Has no effect on the Near Caches with invalidation disabled.
+     */
+    HazelcastProperty PRELOADER_STORE_VALUES
+            = new HazelcastProperty(PROP_PRELOADER_STORE_VALUES, false);
+
+    String PROP_READ_COALESCING_ENABLED = "hazelcast.nearcache.read.coalescing.enabled";
+
+    /**
+     * When enabled, concurrent misses on the same key wait for a single
+     * remote read of the key instead of each reading it remotely, which
+     * keeps the misses on a hot key after its invalidation from flooding
+     * the owner of its partition. An invalidation of the key detaches the
+     * remote read in flight, so the misses after it read the key again.
+     */
+    HazelcastProperty READ_COALESCING_ENABLED
+            = new HazelcastProperty(PROP_READ_COALESCING_ENABLED, false);
+
     /**
      * Indicates how a near cache is updated.
      */
@@ -222,4 +262,30 @@ public interface NearCache<K, V> extends InitializingObject {
      */
     @Nullable
     V tryPublishReserved(K key, V value, long reservationId, boolean deserialize);
+
+    /**
+     * Registers the supplied future as the remote read of the supplied key,
+     * unless another remote read of the key is in flight. The caller whose
+     * future is registered has to read the key, complete the future and
+     * finish the read with {@link #finishRemoteRead}. The other callers wait
+     * for the returned future instead of reading the key themselves.
+     * <p>
+     * Reads are only coalesced if {@link #READ_COALESCING_ENABLED} is set,
+     * otherwise the supplied future is returned without registering it.
+     *
+     * @param key        the key to be read
+     * @param remoteRead the future to be completed with the value read
+     * @return the supplied future if the caller has to read the key,
+     * otherwise the future of the remote read in flight
+     */
+    CompletableFuture<Object> tryJoinRemoteRead(K key, CompletableFuture<Object> remoteRead);
+
+    /**
+     * Deregisters the supplied remote read of the supplied key, if it is
+     * still registered.
+     *
+     * @param key        the key which has been read
+     * @param remoteRead the future registered by {@link #tryJoinRemoteRead}
+     */
+    void finishRemoteRead(K key, CompletableFuture<Object> remoteRead);
 }
@@ -19,9 +19,11 @@ package com.hazelcast.internal.nearcache.impl;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheDataRecordStore;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheDirectDataRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheObjectRecordStore;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -29,11 +31,15 @@ import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
 import com.hazelcast.spi.properties.HazelcastProperties;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.hazelcast.config.NearCacheConfig.DEFAULT_MEMORY_FORMAT;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
 import static com.hazelcast.internal.util.Preconditions.checkInstanceOf;
 import static com.hazelcast.internal.util.Preconditions.checkNotInstanceOf;
 
@@ -50,6 +56,11 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
 
     private final boolean serializeKeys;
     private final HazelcastProperties properties;
+    /**
+     * The remote reads in flight by key, {@code null} if the reads are not
+     * coalesced.
+     */
+    private final ConcurrentMap<K, CompletableFuture<Object>> remoteReads;
 
     private volatile boolean preloadDone;
 
@@ -72,6 +83,7 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         this.nearCacheRecordStore = nearCacheRecordStore;
         this.serializeKeys = nearCacheConfig.isSerializeKeys();
         this.properties = properties;
+        this.remoteReads = properties.getBoolean(READ_COALESCING_ENABLED) ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
@@ -89,11 +101,18 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         if (inMemoryFormat == null) {
             inMemoryFormat = DEFAULT_MEMORY_FORMAT;
         }
+        boolean preloadValues = properties.getBoolean(PRELOADER_STORE_VALUES);
         switch (inMemoryFormat) {
             case BINARY:
-                return new NearCacheDataRecordStore<>(name, nearCacheConfig, serializationService, classLoader);
+                if (properties.getBoolean(DIRECT_MEMORY_ENABLED) && MEM_AVAILABLE) {
+                    return new NearCacheDirectDataRecordStore<>(name, nearCacheConfig, serializationService, classLoader,
+                            preloadValues);
+                }
+                return new NearCacheDataRecordStore<>(name, nearCacheConfig, serializationService, classLoader,
+                        preloadValues);
             case OBJECT:
-                return new NearCacheObjectRecordStore<>(name, nearCacheConfig, serializationService, classLoader);
+                return new NearCacheObjectRecordStore<>(name, nearCacheConfig, serializationService, classLoader,
+                        preloadValues);
             default:
                 throw new IllegalArgumentException("Invalid in memory format: " + inMemoryFormat);
         }
@@ -140,11 +159,18 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         checkKeyFormat(key);
 
         nearCacheRecordStore.invalidate(key);
+        if (remoteReads != null) {
+            // the misses after the invalidation must not wait for a value read before it
+            remoteReads.remove(key);
+        }
     }
 
     @Override
     public void clear() {
         nearCacheRecordStore.clear();
+        if (remoteReads != null) {
+            remoteReads.clear();
+        }
     }
 
     @Override
@@ -153,6 +179,9 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
             expirationTaskFuture.cancel(true);
         }
         nearCacheRecordStore.destroy();
+        if (remoteReads != null) {
+            remoteReads.clear();
+        }
     }
 
     @Override
@@ -210,6 +239,28 @@ public class DefaultNearCache<K, V> implements NearCache<K, V> {
         return nearCacheRecordStore.tryPublishReserved(key, value, reservationId, deserialize);
     }
 
+    @Override
+    public CompletableFuture<Object> tryJoinRemoteRead(K key, CompletableFuture<Object> remoteRead) {
+        if (remoteReads == null) {
+            return remoteRead;
+        }
+        CompletableFuture<Object> inFlightRead = remoteReads.putIfAbsent(key, remoteRead);
+        if (inFlightRead == null) {
+            return remoteRead;
+        }
+        if (nearCacheRecordStore.getNearCacheStats() instanceof NearCacheStatsImpl nearCacheStats) {
+            nearCacheStats.incrementCoalescedMisses();
+        }
+        return inFlightRead;
+    }
+
+    @Override
+    public void finishRemoteRead(K key, CompletableFuture<Object> remoteRead) {
+        if (remoteReads != null) {
+            remoteReads.remove(key, remoteRead);
+        }
+    }
+
     public NearCacheRecordStore<K, V> getNearCacheRecordStore() {
         return nearCacheRecordStore;
     }
@@ -37,7 +37,9 @@ import java.util.function.Predicate;
 
 import static com.hazelcast.core.LifecycleEvent.LifecycleState.SHUTTING_DOWN;
 import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutIfAbsent;
+import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -60,15 +62,22 @@ public class BatchInvalidator extends Invalidator {
 
     private final int batchSize;
     private final int batchFrequencySeconds;
+    private final boolean compactionEnabled;
     private final UUID nodeShutdownListenerId;
     private final AtomicBoolean runningBackgroundTask = new AtomicBoolean(false);
 
     public BatchInvalidator(String serviceName, int batchSize, int batchFrequencySeconds,
                             Predicate<EventRegistration> eventFilter, NodeEngine nodeEngine) {
+        this(serviceName, batchSize, batchFrequencySeconds, false, eventFilter, nodeEngine);
+    }
+
+    public BatchInvalidator(String serviceName, int batchSize, int batchFrequencySeconds, boolean compactionEnabled,
+                            Predicate<EventRegistration> eventFilter, NodeEngine nodeEngine) {
         super(serviceName, eventFilter, nodeEngine);
 
         this.batchSize = batchSize;
         this.batchFrequencySeconds = batchFrequencySeconds;
+        this.compactionEnabled = compactionEnabled;
         this.nodeShutdownListenerId = registerNodeShutdownListener();
         this.invalidationExecutorName = serviceName + getClass();
     }
@@ -112,6 +121,10 @@ public class BatchInvalidator extends Invalidator {
             invalidationQueue.release();
         }
 
+        if (compactionEnabled) {
+            invalidations = compactInvalidations(invalidations);
+        }
+
         sendInvalidations(dataStructureName, invalidations);
     }
 
@@ -132,6 +145,41 @@ public class BatchInvalidator extends Invalidator {
         return invalidations;
     }
 
+    /**
+     * Keeps only the last invalidation of each key, which has the latest
+     * sequence of the key, and groups the invalidations by partition. The
+     * order of the invalidations of a partition is preserved, so their
+     * sequences are still ascending.
+     */
+    List<Invalidation> compactInvalidations(List<Invalidation> invalidations) {
+        int size = invalidations.size();
+        Set<Data> keys = createHashSet(size);
+        // the last invalidation of each key in reverse order, with its partition ID
+        Invalidation[] latest = new Invalidation[size];
+        int[] partitionIds = new int[size];
+        int[] partitionOffsets = new int[partitionService.getPartitionCount() + 1];
+        int count = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            // only key invalidations are batched, clear invalidations are sent immediately
+            Invalidation invalidation = invalidations.get(i);
+            if (keys.add(invalidation.getKey())) {
+                int partitionId = partitionService.getPartitionId(invalidation.getKey());
+                latest[count] = invalidation;
+                partitionIds[count++] = partitionId;
+                partitionOffsets[partitionId + 1]++;
+            }
+        }
+        for (int partitionId = 1; partitionId < partitionOffsets.length; partitionId++) {
+            partitionOffsets[partitionId] += partitionOffsets[partitionId - 1];
+        }
+        // counting sort by partition, which keeps the order of the invalidations of the same partition
+        Invalidation[] compacted = new Invalidation[count];
+        for (int i = count - 1; i >= 0; i--) {
+            compacted[partitionOffsets[partitionIds[i]]++] = latest[i];
+        }
+        return asList(compacted);
+    }
+
     private void sendInvalidations(String dataStructureName, List<Invalidation> invalidations) {
         // There will always be at least one listener which listens invalidations. This is the reason behind eager creation
         // of BatchNearCacheInvalidation instance here. There is a causality between listener and invalidation. Only if we have
@@ -19,6 +19,9 @@ package com.hazelcast.internal.nearcache.impl.preloader;
 import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
 import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
@@ -30,18 +33,26 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.memory.MemoryUnit;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
 
+import static com.hazelcast.internal.nearcache.NearCacheRecord.READ_PERMITTED;
 import static com.hazelcast.internal.nio.Bits.INT_SIZE_IN_BYTES;
+import static com.hazelcast.internal.nio.Bits.LONG_SIZE_IN_BYTES;
 import static com.hazelcast.internal.nio.Bits.readIntB;
 import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.Bits.writeLongB;
 import static com.hazelcast.internal.nio.IOUtil.closeResource;
 import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
 import static com.hazelcast.internal.nio.IOUtil.readFullyOrNothing;
@@ -62,7 +73,33 @@ public class NearCachePreloader<K> {
      * File format for the file header.
      */
     private enum FileFormat {
-        INTERLEAVED_LENGTH_FIELD
+        INTERLEAVED_LENGTH_FIELD,
+        /**
+         * Each key is followed by its value and the invalidation metadata
+         * of its partition (partition UUID and sequence) at store time.
+         */
+        INTERLEAVED_LENGTH_FIELD_WITH_VALUES
+    }
+
+    /**
+     * Puts the entries of a store file written by {@link #storeEntries} into
+     * the Near Cache.
+     */
+    @FunctionalInterface
+    public interface StoredEntryLoader {
+
+        /**
+         * Puts the given stored entry into the Near Cache if the partition of
+         * the key has not changed since the entry was stored.
+         *
+         * @param key               the stored key
+         * @param value             the stored value
+         * @param partitionUuid     the partition UUID at store time
+         * @param partitionSequence the partition sequence at store time
+         * @return {@code true} if the entry was put into the Near Cache,
+         * {@code false} if the value has to be loaded from the data structure
+         */
+        boolean tryLoad(Data key, Data value, UUID partitionUuid, long partitionSequence);
     }
 
     /**
@@ -84,8 +121,14 @@ public class NearCachePreloader<K> {
      */
     private static final int LOAD_BATCH_SIZE = 100;
 
+    /**
+     * Value size written for the keys which are stored without a value.
+     */
+    private static final int NO_VALUE = -1;
+
     private final ILogger logger = Logger.getLogger(NearCachePreloader.class);
     private final byte[] tmpBytes = new byte[INT_SIZE_IN_BYTES];
+    private final byte[] tmpLongBytes = new byte[LONG_SIZE_IN_BYTES];
 
     private final String nearCacheName;
     private final NearCacheStatsImpl nearCacheStats;
@@ -98,6 +141,7 @@ public class NearCachePreloader<K> {
     private ByteBuffer buf;
     private int lastWrittenBytes;
     private int lastKeyCount;
+    private int lastValueCount;
 
     public NearCachePreloader(String nearCacheName, NearCachePreloaderConfig preloaderConfig,
                               NearCacheStatsImpl nearCacheStats, SerializationService serializationService) {
@@ -121,6 +165,22 @@ public class NearCachePreloader<K> {
      * @param adapter the {@link DataStructureAdapter} to load the values from
      */
     public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
+        loadKeys(adapter, null);
+    }
+
+    /**
+     * Loads the values via a stored key file into the supplied {@link DataStructureAdapter}.
+     * <p>
+     * If the file was written by {@link #storeEntries}, the stored values are
+     * put into the Near Cache by the supplied {@link StoredEntryLoader} and
+     * only the keys it rejects are loaded from the {@link DataStructureAdapter}.
+     * The file is memory-mapped for reading in this case.
+     *
+     * @param adapter the {@link DataStructureAdapter} to load the values from
+     * @param loader  the {@link StoredEntryLoader} to put the stored values into
+     *                the Near Cache, or {@code null} to ignore the stored values
+     */
+    public void loadKeys(DataStructureAdapter<Object, ?> adapter, @Nullable StoredEntryLoader loader) {
         if (!storeFile.exists()) {
             logger.info(format("Skipped loading keys of Near Cache %s since storage file doesn't exist (%s)", nearCacheName,
                     storeFile.getAbsolutePath()));
@@ -129,33 +189,39 @@ public class NearCachePreloader<K> {
 
         long startedNanos = Timer.nanos();
 
-        try (BufferingInputStream bis = new BufferingInputStream(new FileInputStream(storeFile), BUFFER_SIZE)) {
-            if (!checkHeader(bis)) {
-                return;
+        try {
+            FileFormat fileFormat;
+            try (BufferingInputStream bis = new BufferingInputStream(new FileInputStream(storeFile), BUFFER_SIZE)) {
+                fileFormat = checkHeader(bis);
+                if (fileFormat == FileFormat.INTERLEAVED_LENGTH_FIELD) {
+                    int loadedKeys = loadKeySet(bis, adapter);
+
+                    long elapsedMillis = Timer.millisElapsed(startedNanos);
+                    logger.info(format("Loaded %d keys of Near Cache %s in %d ms", loadedKeys, nearCacheName, elapsedMillis));
+                    return;
+                }
+            }
+            if (fileFormat == FileFormat.INTERLEAVED_LENGTH_FIELD_WITH_VALUES) {
+                loadEntrySet(adapter, loader, startedNanos);
             }
-
-            int loadedKeys = loadKeySet(bis, adapter);
-
-            long elapsedMillis = Timer.millisElapsed(startedNanos);
-            logger.info(format("Loaded %d keys of Near Cache %s in %d ms", loadedKeys, nearCacheName, elapsedMillis));
         } catch (Exception e) {
             logger.warning(format("Could not pre-load Near Cache %s (%s)", nearCacheName, storeFile.getAbsolutePath()), e);
         }
     }
 
-    private boolean checkHeader(BufferingInputStream bis) throws IOException {
+    private FileFormat checkHeader(BufferingInputStream bis) throws IOException {
         int magicBytes = readInt(bis);
         if (magicBytes != MAGIC_BYTES) {
             logger.warning(format("Found invalid header for Near Cache %s (%s)", nearCacheName, storeFile.getAbsolutePath()));
-            return false;
+            return null;
         }
         int fileFormat = readInt(bis);
         if (fileFormat < 0 || fileFormat > FileFormat.values().length - 1) {
             logger.warning(format("Found invalid file format for Near Cache %s (%s)", nearCacheName,
                     storeFile.getAbsolutePath()));
-            return false;
+            return null;
         }
-        return true;
+        return FileFormat.values()[fileFormat];
     }
 
     /**
@@ -164,19 +230,43 @@ public class NearCachePreloader<K> {
      * @param iterator {@link Iterator} over the key set of a {@link com.hazelcast.internal.nearcache.NearCacheRecordStore}
      */
     public void storeKeys(Iterator<K> iterator) {
+        store(FileFormat.INTERLEAVED_LENGTH_FIELD, (fos, outChannel) -> writeKeySet(fos, outChannel, iterator));
+    }
+
+    /**
+     * Stores the Near Cache keys together with their values and the
+     * invalidation metadata of their partitions from the supplied iterator,
+     * so the values can be put back into the Near Cache without loading them
+     * from the data structure if their partitions don't change meanwhile.
+     * <p>
+     * The values of the records which are not readable or are already stale
+     * are not stored, only their keys.
+     *
+     * @param iterator          {@link Iterator} over the entries of a
+     *                          {@link com.hazelcast.internal.nearcache.NearCacheRecordStore}
+     * @param staleReadDetector the {@link StaleReadDetector} of the Near Cache
+     */
+    public void storeEntries(Iterator<? extends Map.Entry<K, ? extends NearCacheRecord>> iterator,
+                             StaleReadDetector staleReadDetector) {
+        store(FileFormat.INTERLEAVED_LENGTH_FIELD_WITH_VALUES,
+                (fos, outChannel) -> writeEntrySet(fos, outChannel, iterator, staleReadDetector));
+    }
+
+    private void store(FileFormat fileFormat, StoreFileWriter writer) {
         long startedNanos = Timer.nanos();
         FileOutputStream fos = null;
         try {
             buf = allocate(BUFFER_SIZE);
             lastWrittenBytes = 0;
             lastKeyCount = 0;
+            lastValueCount = 0;
 
             fos = new FileOutputStream(tmpStoreFile, false);
 
             // write header and keys
             writeInt(fos, MAGIC_BYTES);
-            writeInt(fos, FileFormat.INTERLEAVED_LENGTH_FIELD.ordinal());
-            writeKeySet(fos, fos.getChannel(), iterator);
+            writeInt(fos, fileFormat.ordinal());
+            writer.write(fos, fos.getChannel());
 
             // cleanup if no keys have been written
             if (lastKeyCount == 0) {
@@ -204,8 +294,70 @@ public class NearCachePreloader<K> {
         long elapsedMillis = Timer.millisElapsed(startedNanos);
         nearCacheStats.addPersistence(elapsedMillis, lastWrittenBytes, lastKeyCount);
 
-        logger.info(format("Stored %d keys of Near Cache %s in %d ms (%d kB)", lastKeyCount, nearCacheName, elapsedMillis,
-                MemoryUnit.BYTES.toKiloBytes(lastWrittenBytes)));
+        logger.info(format("Stored %d keys and %d values of Near Cache %s in %d ms (%d kB)", lastKeyCount, lastValueCount,
+                nearCacheName, elapsedMillis, MemoryUnit.BYTES.toKiloBytes(lastWrittenBytes)));
+    }
+
+    private void loadEntrySet(DataStructureAdapter<Object, ?> adapter, StoredEntryLoader loader,
+                              long startedNanos) throws IOException {
+        int loadedKeys = 0;
+        int loadedValues = 0;
+
+        Builder<Object> builder = InflatableSet.newBuilder(LOAD_BATCH_SIZE);
+        try (FileChannel channel = FileChannel.open(storeFile.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                logger.warning(format("Skipped loading keys of Near Cache %s since storage file is too large (%s)",
+                        nearCacheName, storeFile.getAbsolutePath()));
+                return;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            // skip the header
+            mapped.position(2 * INT_SIZE_IN_BYTES);
+            while (mapped.remaining() >= INT_SIZE_IN_BYTES) {
+                Data key = readData(mapped, mapped.getInt());
+                if (key == null || mapped.remaining() < INT_SIZE_IN_BYTES) {
+                    break;
+                }
+                int valueSize = mapped.getInt();
+                Data value = null;
+                if (valueSize != NO_VALUE) {
+                    value = readData(mapped, valueSize);
+                    if (value == null || mapped.remaining() < 3 * LONG_SIZE_IN_BYTES) {
+                        break;
+                    }
+                    UUID partitionUuid = new UUID(mapped.getLong(), mapped.getLong());
+                    long partitionSequence = mapped.getLong();
+                    if (loader != null && loader.tryLoad(key, value, partitionUuid, partitionSequence)) {
+                        loadedKeys++;
+                        loadedValues++;
+                        continue;
+                    }
+                }
+                builder.add(serializationService.toObject(key));
+                if (builder.size() == LOAD_BATCH_SIZE) {
+                    adapter.getAll(builder.build());
+                    builder = InflatableSet.newBuilder(LOAD_BATCH_SIZE);
+                }
+                loadedKeys++;
+            }
+        }
+        if (builder.size() > 0) {
+            adapter.getAll(builder.build());
+        }
+
+        long elapsedMillis = Timer.millisElapsed(startedNanos);
+        logger.info(format("Loaded %d keys of Near Cache %s in %d ms (%d values from storage file)", loadedKeys,
+                nearCacheName, elapsedMillis, loadedValues));
+    }
+
+    private static Data readData(ByteBuffer buffer, int dataSize) {
+        if (dataSize < 0 || buffer.remaining() < dataSize) {
+            return null;
+        }
+        byte[] payload = new byte[dataSize];
+        buffer.get(payload);
+        return new HeapData(payload);
     }
 
     private int loadKeySet(BufferingInputStream bis, DataStructureAdapter<Object, ?> adapter) throws IOException {
@@ -237,26 +389,64 @@ public class NearCachePreloader<K> {
             K key = iterator.next();
             Data dataKey = serializationService.toData(key);
             if (dataKey != null) {
-                int dataSize = dataKey.totalSize();
-                writeInt(fos, dataSize);
-
-                int position = 0;
-                int remaining = dataSize;
-                while (remaining > 0) {
-                    int transferredCount = Math.min(BUFFER_SIZE - buf.position(), remaining);
-                    ensureBufHasRoom(fos, transferredCount);
-                    buf.put(dataKey.toByteArray(), position, transferredCount);
-                    position += transferredCount;
-                    remaining -= transferredCount;
-                }
+                writeData(fos, dataKey);
+                lastKeyCount++;
+            }
+            flushLocalBuffer(outChannel);
+        }
+    }
 
-                lastWrittenBytes += INT_SIZE_IN_BYTES + dataSize;
+    private void writeEntrySet(FileOutputStream fos, FileChannel outChannel,
+                               Iterator<? extends Map.Entry<K, ? extends NearCacheRecord>> iterator,
+                               StaleReadDetector staleReadDetector) throws IOException {
+        while (iterator.hasNext()) {
+            Map.Entry<K, ? extends NearCacheRecord> entry = iterator.next();
+            K key = entry.getKey();
+            Data dataKey = serializationService.toData(key);
+            if (dataKey != null) {
+                writeData(fos, dataKey);
                 lastKeyCount++;
+
+                NearCacheRecord record = entry.getValue();
+                Object value = record.getValue();
+                MetaDataContainer metaData = staleReadDetector.getMetaDataContainer(record.getPartitionId());
+                // the values of readable and fresh records are consistent with the
+                // invalidations received so far for their partitions
+                UUID partitionUuid = metaData.getUuid();
+                long partitionSequence = metaData.getSequence();
+                if (value != null && partitionUuid != null && record.getReservationId() == READ_PERMITTED
+                        && !staleReadDetector.isStaleRead(key, record)) {
+                    writeData(fos, serializationService.toData(value));
+                    writeLong(fos, partitionUuid.getMostSignificantBits());
+                    writeLong(fos, partitionUuid.getLeastSignificantBits());
+                    writeLong(fos, partitionSequence);
+                    lastValueCount++;
+                } else {
+                    writeInt(fos, NO_VALUE);
+                    lastWrittenBytes += INT_SIZE_IN_BYTES;
+                }
             }
             flushLocalBuffer(outChannel);
         }
     }
 
+    private void writeData(FileOutputStream fos, Data data) throws IOException {
+        int dataSize = data.totalSize();
+        writeInt(fos, dataSize);
+
+        int position = 0;
+        int remaining = dataSize;
+        while (remaining > 0) {
+            int transferredCount = Math.min(BUFFER_SIZE - buf.position(), remaining);
+            ensureBufHasRoom(fos, transferredCount);
+            buf.put(data.toByteArray(), position, transferredCount);
+            position += transferredCount;
+            remaining -= transferredCount;
+        }
+
+        lastWrittenBytes += INT_SIZE_IN_BYTES + dataSize;
+    }
+
     private int readInt(BufferingInputStream bis) throws IOException {
         readFullyOrNothing(bis, tmpBytes);
         return readIntB(tmpBytes, 0);
@@ -268,6 +458,13 @@ public class NearCachePreloader<K> {
         buf.put(tmpBytes);
     }
 
+    private void writeLong(FileOutputStream fos, long value) throws IOException {
+        ensureBufHasRoom(fos, LONG_SIZE_IN_BYTES);
+        writeLongB(tmpLongBytes, 0, value);
+        buf.put(tmpLongBytes);
+        lastWrittenBytes += LONG_SIZE_IN_BYTES;
+    }
+
     private void ensureBufHasRoom(FileOutputStream fos, int expectedSize) throws IOException {
         if (buf.position() < BUFFER_SIZE - expectedSize) {
             return;
@@ -287,6 +484,14 @@ public class NearCachePreloader<K> {
         buf.clear();
     }
 
+    /**
+     * Writes the content of the store file after its header.
+     */
+    @FunctionalInterface
+    private interface StoreFileWriter {
+        void write(FileOutputStream fos, FileChannel outChannel) throws IOException;
+    }
+
     private static String getFilename(String directory, String nearCacheName) {
         String filename = toFileName("nearCache-" + nearCacheName + ".store");
         if (isNullOrEmpty(directory)) {
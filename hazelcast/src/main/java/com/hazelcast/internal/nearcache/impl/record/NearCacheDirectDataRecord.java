@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.record;
+
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Implementation of {@link com.hazelcast.internal.nearcache.NearCacheRecord} to store {@link Data} type objects
+ * outside of the Java heap.
+ * <p>
+ * The serialized value is kept in a block of native memory taken from the
+ * {@link MemoryManager} of the record store, so only small fixed-size objects
+ * per record live on the heap. The block is freed explicitly when the value is
+ * replaced or the record is removed from the store, see {@link #releaseValue()}.
+ * <p>
+ * A block is reference counted, so a concurrent {@link #getValue()} of a value
+ * being released keeps the block alive until its copy completes. The value is
+ * copied to a {@link HeapData} on each read since the returned {@link Data} is
+ * deserialized and possibly kept by the caller after the block has been freed
+ * and reused for another value.
+ */
+public class NearCacheDirectDataRecord extends AbstractNearCacheRecord<Data> {
+
+    private static final AtomicReferenceFieldUpdater<NearCacheDirectDataRecord, NativeValue> NATIVE_VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(NearCacheDirectDataRecord.class, NativeValue.class, "nativeValue");
+
+    private final MemoryManager memoryManager;
+    private volatile NativeValue nativeValue;
+    // kept after the value is released, so the memory cost of a removed record is known
+    private volatile int valueSize;
+
+    public NearCacheDirectDataRecord(MemoryManager memoryManager, Data value, long creationTime, long expiryTime) {
+        super(null, creationTime, expiryTime);
+        this.memoryManager = memoryManager;
+        this.nativeValue = toNativeValue(value);
+        this.valueSize = getSize(nativeValue);
+    }
+
+    @Override
+    public Data getValue() {
+        for (; ; ) {
+            NativeValue nativeValue = this.nativeValue;
+            if (nativeValue == null) {
+                return null;
+            }
+            if (nativeValue.retain()) {
+                try {
+                    byte[] bytes = new byte[nativeValue.size];
+                    memoryManager.getAccessor().copyToByteArray(nativeValue.address, bytes, 0, nativeValue.size);
+                    return new HeapData(bytes);
+                } finally {
+                    nativeValue.release(memoryManager);
+                }
+            }
+            // the value has been released meanwhile, read the replacing one if there is any
+        }
+    }
+
+    @Override
+    public void setValue(Data value) {
+        NativeValue newValue = toNativeValue(value);
+        valueSize = getSize(newValue);
+        replaceValue(newValue);
+    }
+
+    /**
+     * Frees the native memory of the value once no concurrent read uses it
+     * anymore. Called when the record is removed from the record store, a
+     * released record reads as having no value.
+     */
+    public void releaseValue() {
+        replaceValue(null);
+    }
+
+    /**
+     * Returns the number of bytes of native memory used for the value. The
+     * size of a released value is still reported, for the memory cost
+     * accounting of the removed record.
+     */
+    public int getValueSize() {
+        return valueSize;
+    }
+
+    private void replaceValue(NativeValue newValue) {
+        NativeValue oldValue = NATIVE_VALUE.getAndSet(this, newValue);
+        if (oldValue != null) {
+            oldValue.release(memoryManager);
+        }
+    }
+
+    private static int getSize(NativeValue nativeValue) {
+        return nativeValue == null ? 0 : nativeValue.size;
+    }
+
+    private NativeValue toNativeValue(Data value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.toByteArray();
+        long address = memoryManager.getAllocator().allocate(bytes.length);
+        memoryManager.getAccessor().copyFromByteArray(bytes, 0, address, bytes.length);
+        return new NativeValue(address, bytes.length);
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheDirectDataRecord{valueSize=" + getValueSize() + ", " + super.toString() + '}';
+    }
+
+    /**
+     * A block of native memory holding a serialized value. The block is
+     * referenced by the record until the value is released and by each
+     * read in progress.
+     */
+    private static final class NativeValue {
+
+        private static final AtomicIntegerFieldUpdater<NativeValue> REFERENCE_COUNT =
+                AtomicIntegerFieldUpdater.newUpdater(NativeValue.class, "referenceCount");
+
+        private final long address;
+        private final int size;
+        private volatile int referenceCount = 1;
+
+        NativeValue(long address, int size) {
+            this.address = address;
+            this.size = size;
+        }
+
+        /**
+         * Takes a reference to the block, unless it has been freed already.
+         */
+        boolean retain() {
+            for (; ; ) {
+                int referenceCount = this.referenceCount;
+                if (referenceCount == 0) {
+                    return false;
+                }
+                if (REFERENCE_COUNT.compareAndSet(this, referenceCount, referenceCount + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release(MemoryManager memoryManager) {
+            if (REFERENCE_COUNT.decrementAndGet(this) == 0) {
+                memoryManager.getAllocator().free(address, size);
+            }
+        }
+    }
+}
@@ -239,11 +239,10 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
             }
 
             value = (V) record.getValue();
-            long recordState = record.getReservationId();
 
-            if (recordState != READ_PERMITTED
-                    && !record.isCachedAsNull()
-                    && value == null) {
+            // a record without a value which isn't cached as null is either
+            // reserved for an update or its value has been released meanwhile
+            if (value == null && !record.isCachedAsNull()) {
                 nearCacheStats.incrementMisses();
                 return null;
             }
@@ -265,18 +264,15 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
             onRecordAccess(record);
             nearCacheStats.incrementHits();
 
-            return recordToValue(record);
+            // the value read above is converted, since reading the value of
+            // some records, like the direct memory ones, copies it each time
+            return value == null ? (V) CACHED_AS_NULL : toValue(value);
         } catch (Throwable error) {
             onGetError(key, value, record, error);
             throw rethrow(error);
         }
     }
 
-    protected V recordToValue(R record) {
-        return record.getValue() == null
-                ? (V) CACHED_AS_NULL : toValue(record.getValue());
-    }
-
     // only implemented for testing purposes
     @Override
     public void put(K key, Data keyData, V value, Data valueData) {
@@ -23,6 +23,7 @@ import com.hazelcast.config.NearCachePreloaderConfig;
 import com.hazelcast.internal.adapter.DataStructureAdapter;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.nearcache.impl.maxsize.EntryCountNearCacheEvictionChecker;
 import com.hazelcast.internal.nearcache.impl.preloader.NearCachePreloader;
 import com.hazelcast.internal.serialization.Data;
@@ -30,9 +31,13 @@ import com.hazelcast.internal.serialization.SerializationService;
 
 import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nearcache.NearCacheRecord.NOT_RESERVED;
+import static com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector.ALWAYS_FRESH;
 import static java.lang.String.format;
 
 /**
@@ -45,18 +50,32 @@ import static java.lang.String.format;
 public abstract class BaseHeapNearCacheRecordStore<K, V, R extends NearCacheRecord>
         extends AbstractNearCacheRecordStore<K, V, K, R, HeapNearCacheRecordMap<K, R>> {
 
-    private static final int DEFAULT_INITIAL_CAPACITY = 1000;
+    static final int DEFAULT_INITIAL_CAPACITY = 1000;
 
     private final NearCachePreloader<K> nearCachePreloader;
+    private final boolean preloadValues;
+    private final boolean serializeKeys;
     private final BiFunction<? super K, ? super R, ? extends R> invalidatorFunction = createInvalidatorFunction();
 
     BaseHeapNearCacheRecordStore(String name, NearCacheConfig nearCacheConfig, SerializationService serializationService,
                                  ClassLoader classLoader) {
+        this(name, nearCacheConfig, serializationService, classLoader, false);
+    }
+
+    /**
+     * @param preloadValues {@code true} to store the values together with
+     *                      the keys for the Near Cache preloader
+     * @see com.hazelcast.internal.nearcache.NearCache#PRELOADER_STORE_VALUES
+     */
+    BaseHeapNearCacheRecordStore(String name, NearCacheConfig nearCacheConfig, SerializationService serializationService,
+                                 ClassLoader classLoader, boolean preloadValues) {
         super(nearCacheConfig, serializationService, classLoader);
 
         NearCachePreloaderConfig preloaderConfig = nearCacheConfig.getPreloaderConfig();
         this.nearCachePreloader = preloaderConfig.isEnabled()
                 ? new NearCachePreloader<>(name, preloaderConfig, nearCacheStats, serializationService) : null;
+        this.preloadValues = preloadValues;
+        this.serializeKeys = nearCacheConfig.isSerializeKeys();
     }
 
     @Override
@@ -120,17 +139,53 @@ public abstract class BaseHeapNearCacheRecordStore<K, V, R extends NearCacheReco
     @Override
     public void loadKeys(DataStructureAdapter<Object, ?> adapter) {
         if (nearCachePreloader != null) {
-            nearCachePreloader.loadKeys(adapter);
+            nearCachePreloader.loadKeys(adapter, this::tryLoadStoredEntry);
         }
     }
 
     @Override
     public void storeKeys() {
-        if (nearCachePreloader != null) {
+        if (nearCachePreloader == null) {
+            return;
+        }
+        StaleReadDetector staleReadDetector = this.staleReadDetector;
+        if (preloadValues && staleReadDetector != ALWAYS_FRESH) {
+            nearCachePreloader.storeEntries(records.entrySet().iterator(), staleReadDetector);
+        } else {
             nearCachePreloader.storeKeys(records.keySet().iterator());
         }
     }
 
+    /**
+     * Puts a value stored by the Near Cache preloader into this Near Cache,
+     * if the partition of the key still has the same UUID and sequence as
+     * at store time, i.e. no invalidation was missed for the partition.
+     * The check is done on the reserved record, which is initialized with
+     * the current invalidation metadata of the partition.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean tryLoadStoredEntry(Data keyData, Data value, UUID partitionUuid, long partitionSequence) {
+        if (staleReadDetector == ALWAYS_FRESH) {
+            return false;
+        }
+        K key = serializeKeys ? (K) keyData : (K) serializationService.toObject(keyData);
+        doEviction(false);
+        long reservationId = tryReserveForUpdate(key, keyData, READ_UPDATE);
+        if (reservationId == NOT_RESERVED) {
+            return false;
+        }
+        R reservedRecord = records.get(key);
+        if (reservedRecord != null && reservedRecord.getReservationId() == reservationId
+                && reservedRecord.hasSameUuid(partitionUuid)
+                && reservedRecord.getInvalidationSequence() == partitionSequence) {
+            tryPublishReserved(key, (V) value, reservationId, false);
+            return true;
+        }
+        // the partition has been updated meanwhile, so the value is loaded from the data structure
+        records.applyIfPresent(key, (k, record) -> record.getReservationId() == reservationId ? null : record);
+        return false;
+    }
+
     @Override
     public void destroy() {
         super.destroy();
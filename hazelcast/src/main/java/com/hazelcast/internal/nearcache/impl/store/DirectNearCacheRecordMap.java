@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.internal.nearcache.impl.record.NearCacheDirectDataRecord;
+import com.hazelcast.internal.serialization.SerializableByConvention;
+import com.hazelcast.internal.serialization.SerializationService;
+
+import java.util.function.BiFunction;
+
+/**
+ * {@link HeapNearCacheRecordMap} for the {@link NearCacheDirectDataRecordStore}, which
+ * releases the native memory of the value of every record leaving the map. Removals
+ * by invalidation, eviction, expiration, replacement and {@link #clear()} all go
+ * through the methods overridden here.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ */
+@SerializableByConvention
+public class DirectNearCacheRecordMap<K> extends HeapNearCacheRecordMap<K, NearCacheDirectDataRecord> {
+
+    DirectNearCacheRecordMap(SerializationService serializationService, int initialCapacity) {
+        super(serializationService, initialCapacity);
+    }
+
+    @Override
+    public NearCacheDirectDataRecord put(K key, NearCacheDirectDataRecord record) {
+        NearCacheDirectDataRecord oldRecord = super.put(key, record);
+        release(oldRecord, record);
+        return oldRecord;
+    }
+
+    @Override
+    public NearCacheDirectDataRecord applyIfPresent(K key,
+            BiFunction<? super K, ? super NearCacheDirectDataRecord, ? extends NearCacheDirectDataRecord> function) {
+        return super.applyIfPresent(key, releasing(function));
+    }
+
+    @Override
+    public NearCacheDirectDataRecord apply(K key,
+            BiFunction<? super K, ? super NearCacheDirectDataRecord, ? extends NearCacheDirectDataRecord> function) {
+        return super.apply(key, releasing(function));
+    }
+
+    @Override
+    public NearCacheDirectDataRecord remove(Object key) {
+        NearCacheDirectDataRecord oldRecord = super.remove(key);
+        release(oldRecord, null);
+        return oldRecord;
+    }
+
+    @Override
+    public boolean remove(Object key, Object record) {
+        if (super.remove(key, record)) {
+            release((NearCacheDirectDataRecord) record, null);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        for (K key : keySet()) {
+            remove(key);
+        }
+    }
+
+    private BiFunction<K, NearCacheDirectDataRecord, NearCacheDirectDataRecord> releasing(
+            BiFunction<? super K, ? super NearCacheDirectDataRecord, ? extends NearCacheDirectDataRecord> function) {
+        return (key, oldRecord) -> {
+            NearCacheDirectDataRecord record = function.apply(key, oldRecord);
+            release(oldRecord, record);
+            return record;
+        };
+    }
+
+    private static void release(NearCacheDirectDataRecord oldRecord, NearCacheDirectDataRecord record) {
+        if (oldRecord != null && oldRecord != record) {
+            oldRecord.releaseValue();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.memory.impl.BuddyMemoryManager;
+import com.hazelcast.internal.nearcache.impl.record.NearCacheDirectDataRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+
+import static com.hazelcast.internal.nearcache.NearCacheRecord.TIME_NOT_SET;
+import static com.hazelcast.internal.nearcache.impl.record.AbstractNearCacheRecord.NUMBER_OF_BOOLEAN_FIELD_TYPES;
+import static com.hazelcast.internal.nearcache.impl.record.AbstractNearCacheRecord.NUMBER_OF_INTEGER_FIELD_TYPES;
+import static com.hazelcast.internal.nearcache.impl.record.AbstractNearCacheRecord.NUMBER_OF_LONG_FIELD_TYPES;
+import static com.hazelcast.internal.util.Clock.currentTimeMillis;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+
+/**
+ * {@link com.hazelcast.internal.nearcache.NearCacheRecordStore} implementation for Near Caches
+ * with {@link com.hazelcast.config.InMemoryFormat#BINARY} in-memory-format, which keeps the
+ * values in direct memory.
+ * <p>
+ * Only the values are stored outside of the Java heap. The keys, the index of the records
+ * and the record metadata used for eviction, expiration and invalidation stay on-heap, so
+ * this store behaves the same as {@link NearCacheDataRecordStore} apart from where the
+ * value bytes live.
+ * <p>
+ * The values are allocated from pages of native memory by a {@link BuddyMemoryManager}
+ * owned by the store, and freed as soon as they are replaced or their record is removed,
+ * see {@link DirectNearCacheRecordMap}.
+ *
+ * @param <K> the type of the key stored in Near Cache
+ * @param <V> the type of the value stored in Near Cache
+ * @see com.hazelcast.internal.nearcache.NearCache#DIRECT_MEMORY_ENABLED
+ */
+public class NearCacheDirectDataRecordStore<K, V> extends BaseHeapNearCacheRecordStore<K, V, NearCacheDirectDataRecord> {
+
+    private static final long PAGE_SIZE = 1L << 20;
+    private static final long MIN_BLOCK_SIZE = 16;
+
+    private final BuddyMemoryManager memoryManager = new BuddyMemoryManager(Long.MAX_VALUE, PAGE_SIZE, MIN_BLOCK_SIZE);
+
+    public NearCacheDirectDataRecordStore(String name,
+                                          NearCacheConfig nearCacheConfig,
+                                          SerializationService serializationService,
+                                          ClassLoader classLoader) {
+        super(name, nearCacheConfig, serializationService, classLoader);
+    }
+
+    public NearCacheDirectDataRecordStore(String name,
+                                          NearCacheConfig nearCacheConfig,
+                                          SerializationService serializationService,
+                                          ClassLoader classLoader,
+                                          boolean preloadValues) {
+        super(name, nearCacheConfig, serializationService, classLoader, preloadValues);
+    }
+
+    @Override
+    protected HeapNearCacheRecordMap<K, NearCacheDirectDataRecord> createNearCacheRecordMap(NearCacheConfig nearCacheConfig) {
+        return new DirectNearCacheRecordMap<>(serializationService, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    @Override
+    protected long getKeyStorageMemoryCost(K key) {
+        if (key instanceof Data data) {
+            return
+                    // reference to this key data inside map ("store" field)
+                    REFERENCE_COST_IN_BYTES
+                            // heap cost of this key data
+                            + data.getHeapCost();
+        } else {
+            // memory cost for non-data typed instance is not supported
+            return 0L;
+        }
+    }
+
+    @Override
+    protected long getRecordStorageMemoryCost(NearCacheDirectDataRecord record) {
+        if (record == null) {
+            return 0L;
+        }
+        // reference to this record inside map ("store" field)
+        return REFERENCE_COST_IN_BYTES
+                // references to "memoryManager" and "nativeValue" fields
+                + 2 * REFERENCE_COST_IN_BYTES
+                // partition Id
+                + (Integer.SIZE / Byte.SIZE)
+                // "uuid" ref size + 2 long in uuid
+                + REFERENCE_COST_IN_BYTES + (2 * (Long.SIZE / Byte.SIZE))
+                // direct memory cost of this value data
+                + record.getValueSize()
+                + NUMBER_OF_LONG_FIELD_TYPES * (Long.SIZE / Byte.SIZE)
+                + NUMBER_OF_INTEGER_FIELD_TYPES * (Integer.SIZE / Byte.SIZE)
+                + NUMBER_OF_BOOLEAN_FIELD_TYPES;
+    }
+
+    @Override
+    protected NearCacheDirectDataRecord createRecord(V value) {
+        Data dataValue = toData(value);
+        long creationTime = currentTimeMillis();
+        if (timeToLiveMillis > 0) {
+            return new NearCacheDirectDataRecord(memoryManager, dataValue, creationTime, creationTime + timeToLiveMillis);
+        } else {
+            return new NearCacheDirectDataRecord(memoryManager, dataValue, creationTime, TIME_NOT_SET);
+        }
+    }
+
+    @Override
+    protected void updateRecordValue(NearCacheDirectDataRecord record, V value) {
+        record.setValue(toData(value));
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        // the values still in use are reads which started before the destroy; their
+        // blocks are freed when the reads complete, so the pages can't be disposed yet
+        if (memoryManager.getAllocator().getUsedMemory() == 0) {
+            memoryManager.dispose();
+        }
+    }
+
+    // only used for testing purposes
+    BuddyMemoryManager getMemoryManager() {
+        return memoryManager;
+    }
+}
@@ -258,6 +258,30 @@ public interface Channel extends Closeable {
      */
     boolean write(OutboundFrame frame);
 
+    /**
+     * Queues the {@link OutboundFrame} without scheduling this channel for writing.
+     * The frame is written by the next {@link #flush()} or {@link #write(OutboundFrame)},
+     * so a caller writing many small frames can have them written together.
+     * <p>
+     * The default implementation writes the frame immediately.
+     * <p>
+     * This method is thread-safe.
+     *
+     * @param frame the frame to write.
+     * @return true if the frame was queued; false if rejected.
+     */
+    default boolean writeDeferred(OutboundFrame frame) {
+        return write(frame);
+    }
+
+    /**
+     * Schedules the writing of the frames queued by {@link #writeDeferred(OutboundFrame)}.
+     * <p>
+     * This method is thread-safe.
+     */
+    default void flush() {
+    }
+
     /**
      * Returns current count of bytes read from the Channel.
      * The read values might not reflect the most recent value.
@@ -80,6 +80,20 @@ public final class NioChannel extends AbstractChannel {
         return true;
     }
 
+    @Override
+    public boolean writeDeferred(OutboundFrame frame) {
+        if (isClosed()) {
+            return false;
+        }
+        outboundPipeline.enqueue(frame);
+        return true;
+    }
+
+    @Override
+    public void flush() {
+        outboundPipeline.flush();
+    }
+
     @Override
     public long lastReadTimeMillis() {
         return inboundPipeline.lastReadTimeMillis();
@@ -200,12 +200,26 @@ public final class NioOutboundPipeline
     }
 
     public void write(OutboundFrame frame) {
+        enqueue(frame);
+        flush();
+    }
+
+    /**
+     * Queues the frame without scheduling the pipeline. The frame is written
+     * by the next {@link #flush()} or {@link #write(OutboundFrame)}.
+     */
+    public void enqueue(OutboundFrame frame) {
         if (frame.isUrgent()) {
             priorityWriteQueue.offer(frame);
         } else {
             writeQueue.offer(frame);
         }
+    }
 
+    /**
+     * Schedules the pipeline so that all queued frames get written.
+     */
+    public void flush() {
         // take care of the scheduling.
         for (; ; ) {
             State state = scheduled.get();
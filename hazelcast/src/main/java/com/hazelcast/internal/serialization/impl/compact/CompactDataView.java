@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.nio.Bits;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+import static com.hazelcast.internal.util.Preconditions.checkTrue;
+
+/**
+ * A lazily materialized view over Compact serialized {@link Data}.
+ * <p>
+ * The fields are read directly from the serialized bytes through
+ * {@link #getRecord()}, without deserializing the whole record. The
+ * fixed-size fields are updated by overwriting them in a private copy of
+ * the serialized bytes, so the updated data can be obtained with
+ * {@link #toData()} without serializing the record again. Updating any
+ * other field rebuilds the serialized record from its fields with
+ * {@link #update(UnaryOperator)}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class CompactDataView {
+
+    private final InternalSerializationService serializationService;
+    private final boolean bigEndian;
+    private Data data;
+    private CompactInternalGenericRecord record;
+    private boolean copied;
+    private boolean modified;
+
+    public CompactDataView(@Nonnull InternalSerializationService serializationService, @Nonnull Data data) {
+        checkTrue(data.isCompact(), "Data is not Compact serialized, type id " + data.getType());
+        this.serializationService = serializationService;
+        this.bigEndian = serializationService.getByteOrder() == ByteOrder.BIG_ENDIAN;
+        this.data = data;
+    }
+
+    /**
+     * Returns the record to read the fields of the current value from.
+     * <p>
+     * The returned record must not be used after the view is updated.
+     */
+    @Nonnull
+    public CompactInternalGenericRecord getRecord() {
+        if (record == null) {
+            try {
+                record = (CompactInternalGenericRecord) serializationService.readAsInternalGenericRecord(data);
+            } catch (IOException e) {
+                throw new HazelcastSerializationException(e);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Returns {@code true} if any field was updated through this view.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Returns the serialized current value, including the updates made
+     * through this view.
+     */
+    @Nonnull
+    public Data toData() {
+        return data;
+    }
+
+    public void setBoolean(@Nonnull String fieldName, boolean value) {
+        FieldDescriptor fd = fixedSizeField(fieldName, FieldKind.BOOLEAN);
+        int position = getRecord().readFixedSizePosition(fd);
+        byte[] bytes = bytesForUpdate();
+        int mask = 1 << fd.getBitOffset();
+        bytes[position] = (byte) (value ? bytes[position] | mask : bytes[position] & ~mask);
+    }
+
+    public void setInt8(@Nonnull String fieldName, byte value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.INT8));
+        bytesForUpdate()[position] = value;
+    }
+
+    public void setInt16(@Nonnull String fieldName, short value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.INT16));
+        Bits.writeShort(bytesForUpdate(), position, value, bigEndian);
+    }
+
+    public void setInt32(@Nonnull String fieldName, int value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.INT32));
+        Bits.writeInt(bytesForUpdate(), position, value, bigEndian);
+    }
+
+    public void setInt64(@Nonnull String fieldName, long value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.INT64));
+        Bits.writeLong(bytesForUpdate(), position, value, bigEndian);
+    }
+
+    public void setFloat32(@Nonnull String fieldName, float value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.FLOAT32));
+        Bits.writeInt(bytesForUpdate(), position, Float.floatToIntBits(value), bigEndian);
+    }
+
+    public void setFloat64(@Nonnull String fieldName, double value) {
+        int position = getRecord().readFixedSizePosition(fixedSizeField(fieldName, FieldKind.FLOAT64));
+        Bits.writeLong(bytesForUpdate(), position, Double.doubleToLongBits(value), bigEndian);
+    }
+
+    /**
+     * Updates the fields of the record with the given function, which is
+     * applied on a builder initialized with the current values of all
+     * fields. Use this method to update the variable-size fields, i.e. the
+     * fields other than the ones with a {@code setX} method in this class.
+     * <p>
+     * The serialized record is rebuilt from its fields, but it is still not
+     * deserialized to the domain object.
+     */
+    public void update(@Nonnull UnaryOperator<GenericRecordBuilder> updater) {
+        GenericRecord updated = updater.apply(getRecord().newBuilderWithClone()).build();
+        data = serializationService.toData(updated);
+        record = null;
+        // the data is serialized just now, so it is not shared with anyone
+        copied = true;
+        modified = true;
+    }
+
+    private FieldDescriptor fixedSizeField(String fieldName, FieldKind fieldKind) {
+        FieldDescriptor fd = getRecord().getSchema().getField(fieldName);
+        if (fd == null) {
+            throw new HazelcastSerializationException("Invalid field name: '" + fieldName
+                    + "' for " + getRecord().getSchema());
+        }
+        if (fd.getKind() != fieldKind) {
+            throw new HazelcastSerializationException("Invalid field kind: '" + fieldName
+                    + "' for " + getRecord().getSchema() + ", expected: " + fieldKind + ", actual: " + fd.getKind()
+                    + ". Use update(UnaryOperator) to update fields other than the non-nullable primitives.");
+        }
+        return fd;
+    }
+
+    /**
+     * Returns the serialized bytes to update in place. The bytes of the
+     * given data are copied on the first update, since they may be shared
+     * with the record store. The record is then read from the copy, so the
+     * positions of the fields remain the same.
+     */
+    private byte[] bytesForUpdate() {
+        modified = true;
+        if (!copied) {
+            byte[] bytes = data.toByteArray();
+            data = new HeapData(Arrays.copyOf(bytes, bytes.length));
+            record = null;
+            copied = true;
+        }
+        return data.toByteArray();
+    }
+}
@@ -199,19 +199,26 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
 
     @Override
     public boolean getBoolean(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getBoolean(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getBoolean(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    boolean getBoolean(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case BOOLEAN:
-                return getBoolean(fd);
+                return getFixedSizeBoolean(fd);
             case NULLABLE_BOOLEAN:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readBoolean, "Boolean");
             default:
-                throw unexpectedFieldKind(BOOLEAN, fieldName);
+                throw unexpectedFieldKind(BOOLEAN, fd.getFieldName());
         }
     }
 
-    private boolean getBoolean(FieldDescriptor fd) {
+    private boolean getFixedSizeBoolean(FieldDescriptor fd) {
         try {
             int booleanOffset = fd.getOffset();
             int bitOffset = fd.getBitOffset();
@@ -225,7 +232,14 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
 
     @Override
     public byte getInt8(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt8(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getInt8(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    byte getInt8(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT8:
@@ -237,13 +251,20 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT8:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readByte, "Int8");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public short getInt16(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt16(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getInt16(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    short getInt16(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT16:
@@ -255,13 +276,20 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT16:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readShort, "Int16");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public int getInt32(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt32(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getInt32(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    int getInt32(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT32:
@@ -273,13 +301,20 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readInt, "Int32");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public long getInt64(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getInt64(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getInt64(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    long getInt64(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT64:
@@ -291,13 +326,20 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_INT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readLong, "Int64");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public float getFloat32(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getFloat32(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getFloat32(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    float getFloat32(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT32:
@@ -309,13 +351,20 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_FLOAT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readFloat, "Float32");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
     @Override
     public double getFloat64(@Nonnull String fieldName) {
-        FieldDescriptor fd = getFieldDescriptor(fieldName);
+        return getFloat64(getFieldDescriptor(fieldName));
+    }
+
+    /**
+     * Same as {@link #getFloat64(String)}, but reads the field described by the
+     * given descriptor of this record's schema without looking it up by name.
+     */
+    double getFloat64(@Nonnull FieldDescriptor fd) {
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT64:
@@ -327,7 +376,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
             case NULLABLE_FLOAT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readDouble, "Float64");
             default:
-                throw unexpectedFieldKind(fieldKind, fieldName);
+                throw unexpectedFieldKind(fieldKind, fd.getFieldName());
         }
     }
 
@@ -585,7 +634,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case BOOLEAN:
-                return getBoolean(fd);
+                return getFixedSizeBoolean(fd);
             case NULLABLE_BOOLEAN:
                 return getVariableSize(fd, ObjectDataInput::readBoolean);
             default:
@@ -850,7 +899,11 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         return getArrayOfVariableSize(fieldDefinition, constructor, reader);
     }
 
-    private int readFixedSizePosition(FieldDescriptor fd) {
+    /**
+     * Returns the position of the given fixed-size field in the underlying
+     * input, which is also its index in the serialized bytes.
+     */
+    int readFixedSizePosition(FieldDescriptor fd) {
         int primitiveOffset = fd.getOffset();
         return primitiveOffset + dataStartPosition;
     }
@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.compact;
 
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
+import com.hazelcast.nio.serialization.FieldKind;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.compact.CompactReader;
 import com.hazelcast.nio.serialization.compact.CompactSerializer;
@@ -33,7 +34,6 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hazelcast.internal.nio.InstanceCreationUtil.createNewInstance;
-import static com.hazelcast.internal.serialization.impl.compact.CompactUtil.isFieldExist;
 import static com.hazelcast.nio.serialization.FieldKind.BOOLEAN;
 import static com.hazelcast.nio.serialization.FieldKind.FLOAT32;
 import static com.hazelcast.nio.serialization.FieldKind.FLOAT64;
@@ -66,7 +66,7 @@ import static java.util.stream.Collectors.toList;
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -96,11 +96,11 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readerWriters) {
             try {
                 readerWriter.write(compactWriter, object);
             } catch (Exception e) {
@@ -111,15 +111,19 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
 
         Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
+        ReaderWriter[] readerWriters = classReaderWriters.readerWriters;
+        // the field descriptors are resolved once per schema, so the primitive
+        // fields are read without looking up the field by name for every read
+        FieldDescriptor[] fieldDescriptors = classReaderWriters.fieldDescriptors(schema);
+        for (int i = 0; i < readerWriters.length; i++) {
             try {
-                readerWriter.read(compactReader, schema, object);
+                readerWriters[i].read(compactReader, schema, fieldDescriptors[i], object);
             } catch (Exception e) {
                 throw new HazelcastSerializationException(e);
             }
@@ -183,11 +187,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
             // Use normal reader-writers for the primitive types to avoid boxing-unboxing
             if (Byte.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT8, NULLABLE_INT8) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT8, NULLABLE_INT8)) {
-                            field.setByte(o, reader.readInt8(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setByte(o, reader.getInt8(fd));
                         }
                     }
 
@@ -197,11 +202,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Character.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setChar(o, (char) reader.readInt16(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setChar(o, (char) reader.getInt16(fd));
                         }
                     }
 
@@ -211,11 +217,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Short.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT16, NULLABLE_INT16) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setShort(o, reader.readInt16(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setShort(o, reader.getInt16(fd));
                         }
                     }
 
@@ -225,11 +232,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Integer.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT32, NULLABLE_INT32) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT32, NULLABLE_INT32)) {
-                            field.setInt(o, reader.readInt32(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setInt(o, reader.getInt32(fd));
                         }
                     }
 
@@ -239,11 +247,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Long.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, INT64, NULLABLE_INT64) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT64, NULLABLE_INT64)) {
-                            field.setLong(o, reader.readInt64(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setLong(o, reader.getInt64(fd));
                         }
                     }
 
@@ -253,11 +262,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Float.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT32, NULLABLE_FLOAT32) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32)) {
-                            field.setFloat(o, reader.readFloat32(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setFloat(o, reader.getFloat32(fd));
                         }
                     }
 
@@ -267,11 +277,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Double.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, FLOAT64, NULLABLE_FLOAT64) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64)) {
-                            field.setDouble(o, reader.readFloat64(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setDouble(o, reader.getFloat64(fd));
                         }
                     }
 
@@ -281,11 +292,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                     }
                 };
             } else if (Boolean.TYPE.equals(type)) {
-                readerWriters[index] = new ReaderWriter() {
+                readerWriters[index] = new PrimitiveReaderWriter(name, BOOLEAN, NULLABLE_BOOLEAN) {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN)) {
-                            field.setBoolean(o, reader.readBoolean(name));
+                    public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o)
+                            throws Exception {
+                        if (fd != null) {
+                            field.setBoolean(o, reader.getBoolean(fd));
                         }
                     }
 
@@ -306,7 +318,7 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        readerWritersCache.put(clazz, new ClassReaderWriters(readerWriters));
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
@@ -321,7 +333,12 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         }
 
         @Override
-        public void read(CompactReader reader, Schema schema, Object o) throws Exception {
+        public FieldDescriptor resolve(Schema schema) {
+            return null;
+        }
+
+        @Override
+        public void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o) throws Exception {
             field.set(o, readerWriter.read(reader, schema));
         }
 
@@ -331,8 +348,68 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         }
     }
 
+    /**
+     * Reads a primitive field through the {@link FieldDescriptor} resolved
+     * for the schema of the data, if the schema contains the field with one
+     * of the compatible kinds.
+     */
+    private abstract static class PrimitiveReaderWriter implements ReaderWriter {
+
+        private final String name;
+        private final FieldKind kind;
+        private final FieldKind nullableKind;
+
+        PrimitiveReaderWriter(String name, FieldKind kind, FieldKind nullableKind) {
+            this.name = name;
+            this.kind = kind;
+            this.nullableKind = nullableKind;
+        }
+
+        @Override
+        public FieldDescriptor resolve(Schema schema) {
+            FieldDescriptor fd = schema.getField(name);
+            if (fd == null || (fd.getKind() != kind && fd.getKind() != nullableKind)) {
+                return null;
+            }
+            return fd;
+        }
+    }
+
+    /**
+     * The reader-writers of a class, together with the field descriptors
+     * they resolved for each schema the class was read with so far.
+     */
+    private static final class ClassReaderWriters {
+
+        private final ReaderWriter[] readerWriters;
+        private final Map<Long, FieldDescriptor[]> fieldDescriptorsBySchemaId = new ConcurrentHashMap<>();
+
+        ClassReaderWriters(ReaderWriter[] readerWriters) {
+            this.readerWriters = readerWriters;
+        }
+
+        FieldDescriptor[] fieldDescriptors(Schema schema) {
+            FieldDescriptor[] fieldDescriptors = fieldDescriptorsBySchemaId.get(schema.getSchemaId());
+            if (fieldDescriptors == null) {
+                fieldDescriptors = new FieldDescriptor[readerWriters.length];
+                for (int i = 0; i < readerWriters.length; i++) {
+                    fieldDescriptors[i] = readerWriters[i].resolve(schema);
+                }
+                fieldDescriptorsBySchemaId.put(schema.getSchemaId(), fieldDescriptors);
+            }
+            return fieldDescriptors;
+        }
+    }
+
     private interface ReaderWriter {
-        void read(CompactReader reader, Schema schema, Object o) throws Exception;
+        /**
+         * Returns the descriptor of the field in the given schema, or
+         * {@code null} if the field is read by name or can't be read from
+         * data with this schema.
+         */
+        FieldDescriptor resolve(Schema schema);
+
+        void read(DefaultCompactReader reader, Schema schema, FieldDescriptor fd, Object o) throws Exception;
 
         void write(CompactWriter writer, Object o) throws Exception;
     }
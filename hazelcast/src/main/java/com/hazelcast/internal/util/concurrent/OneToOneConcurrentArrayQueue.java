@@ -77,17 +77,24 @@ public class OneToOneConcurrentArrayQueue<E> extends AbstractConcurrentArrayQueu
         final long limit = acquiredHead + mask + 1;
 
         long nextSequence = acquiredHead;
-        while (nextSequence < limit) {
-            final int arrayIndex = seqToArrayIndex(nextSequence, mask);
-            final E item = buffer.get(arrayIndex);
-            if (item == null) {
-                break;
+        // the head is published once for the whole batch, the finally block
+        // keeps it consistent with the cleared slots if the handler throws
+        try {
+            while (nextSequence < limit) {
+                final int arrayIndex = seqToArrayIndex(nextSequence, mask);
+                final E item = buffer.get(arrayIndex);
+                if (item == null) {
+                    break;
+                }
+                buffer.lazySet(arrayIndex, null);
+                nextSequence++;
+                if (!itemHandler.test(item)) {
+                    break;
+                }
             }
-            buffer.lazySet(arrayIndex, null);
-            nextSequence++;
-            HEAD.lazySet(this, nextSequence);
-            if (!itemHandler.test(item)) {
-                break;
+        } finally {
+            if (nextSequence != acquiredHead) {
+                HEAD.lazySet(this, nextSequence);
             }
         }
         return (int) (nextSequence - acquiredHead);
@@ -103,17 +110,23 @@ public class OneToOneConcurrentArrayQueue<E> extends AbstractConcurrentArrayQueu
 
         long nextSequence = head;
         int count = 0;
-        while (count < limit) {
-            final int arrayIndex = seqToArrayIndex(nextSequence, mask);
-            final E item = buffer.get(arrayIndex);
-            if (item == null) {
-                break;
+        // the head is published once for the whole batch, see drain()
+        try {
+            while (count < limit) {
+                final int arrayIndex = seqToArrayIndex(nextSequence, mask);
+                final E item = buffer.get(arrayIndex);
+                if (item == null) {
+                    break;
+                }
+                buffer.lazySet(arrayIndex, null);
+                nextSequence++;
+                count++;
+                target.add(item);
+            }
+        } finally {
+            if (count > 0) {
+                HEAD.lazySet(this, nextSequence);
             }
-            buffer.lazySet(arrayIndex, null);
-            nextSequence++;
-            HEAD.lazySet(this, nextSequence);
-            count++;
-            target.add(item);
         }
         return count;
     }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.executor;
+
+import com.hazelcast.internal.namespace.impl.NodeEngineThreadLocalContext;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+
+/**
+ * A {@link ThreadFactory} creating virtual threads. Virtual threads are only
+ * available on JDK 21 and newer, the factory accesses them reflectively since
+ * Hazelcast is compiled against an older JDK. Use {@link #isSupported()} to
+ * check if the running JVM supports them before creating the factory.
+ * <p>
+ * Virtual threads are always daemon threads and can't be subclassed, so unlike
+ * the {@link PoolExecutorThreadFactory}, the created threads are not
+ * {@link HazelcastManagedThread}s. The context class loader and the
+ * {@link NodeEngine} reference are set up the same way though.
+ */
+public final class VirtualThreadFactory implements ThreadFactory {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            ignore(e);
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private final ThreadFactory delegate;
+    private final ClassLoader classLoader;
+    private final NodeEngine nodeEngine;
+
+    public VirtualThreadFactory(String threadNamePrefix, ClassLoader classLoader, NodeEngine nodeEngine) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        this.delegate = createDelegate(threadNamePrefix);
+        this.classLoader = classLoader;
+        this.nodeEngine = nodeEngine;
+    }
+
+    /**
+     * Returns {@code true} if the running JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread thread = delegate.newThread(() -> {
+            // nodeEngine can be null (not provided in context, i.e. client executions), but that's fine here
+            NodeEngineThreadLocalContext.declareNodeEngineReference(nodeEngine);
+            r.run();
+        });
+        if (classLoader != null) {
+            thread.setContextClassLoader(classLoader);
+        }
+        return thread;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread from this factory
+     * for each task. Virtual threads are cheap to create and are not meant to
+     * be pooled, so the returned executor doesn't reuse them.
+     */
+    public ExecutorService newThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, this);
+        } catch (ReflectiveOperationException e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static ThreadFactory createDelegate(String threadNamePrefix) {
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, threadNamePrefix, 1L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw rethrow(e);
+        }
+    }
+}
@@ -137,6 +137,17 @@ public final class MetricNames {
      */
     public static final String SNAPSHOT_KEYS = "snapshotKeys";
 
+    /**
+     * Tracks the time in milliseconds it took a particular {@link Vertex}
+     * to write its state in the last snapshot, measured from the first
+     * item of the snapshot received by the snapshot writer until all
+     * writes completed. The name of the vertex can be found in the
+     * {@link MetricTags#VERTEX} tag of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SNAPSHOT_DURATION = "snapshotDuration";
+
     /**
      * Tracks the start time of a given execution of a specific job.
      * The execution and the job can be identified based on the
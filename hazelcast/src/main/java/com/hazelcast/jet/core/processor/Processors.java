@@ -1184,6 +1184,9 @@ public final class Processors {
     /**
      * Returns a supplier of processors for a vertex that sorts its input using
      * a {@link PriorityQueue} and emits it in the {@code complete} phase.
+     * If the {@link com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_DIRECTORY
+     * spill directory} is configured, the items beyond the maximum number of
+     * accumulated records are sorted on disk.
      * <p>
      * The output edge of this vertex should be {@link Edge#distributed
      * distributed} {@link Edge#ordered monotonicOrder} {@link
@@ -35,11 +35,13 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_BYTES;
+import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_DURATION;
 import static com.hazelcast.jet.core.metrics.MetricNames.SNAPSHOT_KEYS;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DONE;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.DRAIN;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.FLUSH;
 import static com.hazelcast.jet.impl.execution.StoreSnapshotTasklet.State.REACHED_BARRIER;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class StoreSnapshotTasklet implements Tasklet {
 
@@ -54,6 +56,8 @@ public class StoreSnapshotTasklet implements Tasklet {
     private final AsyncSnapshotWriter ssWriter;
     private final ProgressTracker progTracker = new ProgressTracker();
     private final AtomicReference<LongLongAccumulator> metrics = new AtomicReference<>(new LongLongAccumulator());
+    private volatile long lastSnapshotDurationMs;
+    private long snapshotStartNanos = -1;
     private State state = DRAIN;
     private boolean hasReachedBarrier;
     private Entry<Data, Data> pendingEntry;
@@ -135,6 +139,8 @@ public class StoreSnapshotTasklet implements Tasklet {
                 long chunks = ssWriter.getTotalChunks();
                 snapshotContext.phase1DoneForTasklet(bytes, keys, chunks);
                 metrics.set(new LongLongAccumulator(bytes, keys));
+                lastSnapshotDurationMs = NANOSECONDS.toMillis(System.nanoTime() - snapshotStartNanos);
+                snapshotStartNanos = -1;
                 ssWriter.resetStats();
                 pendingSnapshotId++;
                 hasReachedBarrier = false;
@@ -149,6 +155,9 @@ public class StoreSnapshotTasklet implements Tasklet {
     }
 
     private boolean addToInbox(Object o) {
+        if (snapshotStartNanos < 0) {
+            snapshotStartNanos = System.nanoTime();
+        }
         if (o instanceof SnapshotBarrier barrier) {
             assert pendingSnapshotId == barrier.snapshotId() : "Unexpected barrier, expected was " +
                     pendingSnapshotId + ", but barrier was " + barrier.snapshotId() + ", this=" + this;
@@ -169,6 +178,7 @@ public class StoreSnapshotTasklet implements Tasklet {
         LongLongAccumulator metricValues = metrics.get();
         context.collect(descriptor, SNAPSHOT_BYTES, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get1());
         context.collect(descriptor, SNAPSHOT_KEYS, ProbeLevel.INFO, ProbeUnit.COUNT, metricValues.get2());
+        context.collect(descriptor, SNAPSHOT_DURATION, ProbeLevel.INFO, ProbeUnit.MS, lastSnapshotDurationMs);
     }
 
     @Override
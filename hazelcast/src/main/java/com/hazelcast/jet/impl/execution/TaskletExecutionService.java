@@ -55,6 +55,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -65,6 +66,7 @@ import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
@@ -93,6 +95,7 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final long rebalanceIntervalNanos;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -109,6 +112,7 @@ public class TaskletExecutionService {
         idlerNonCooperative = createIdler(
             properties, JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS, JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS
         );
+        rebalanceIntervalNanos = Math.max(0, properties.getNanos(JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS));
 
         Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
         Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
@@ -342,6 +346,8 @@ public class TaskletExecutionService {
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
+        @Probe(name = "taskletMigrationCount")
+        private final Counter taskletMigrationCount = SwCounter.newSwCounter();
 
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
@@ -349,6 +355,13 @@ public class TaskletExecutionService {
 
         private final Semaphore newTaskletSemaphore = new Semaphore(0);
 
+        // the busy time in the last rebalance interval, plus the busy time of tasklets migrated to this worker since
+        private final AtomicLong lastBusyNanos = new AtomicLong();
+        private long busyNanos;
+        private long nextRebalanceNanos;
+        // guarded by this, no tasklets are migrated to a terminated worker
+        private boolean terminated;
+
         private boolean finestLogEnabled;
         private Thread myThread;
         private Contexts.Container contextContainer;
@@ -371,6 +384,9 @@ public class TaskletExecutionService {
                 // garbage-free iteration -- relies on implementation in COWArrayList that doesn't use an Iterator
                 trackers.forEach(runTasklet);
                 iterationCount.inc();
+                if (rebalanceIntervalNanos > 0) {
+                    rebalance();
+                }
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
@@ -392,13 +408,16 @@ public class TaskletExecutionService {
                     }
                 }
             }
+            synchronized (this) {
+                terminated = true;
+            }
             trackers.forEach(t -> t.executionTracker.taskletDone());
             trackers.clear();
         }
 
         private void runTasklet(TaskletTracker t) {
             long start = 0;
-            if (finestLogEnabled) {
+            if (finestLogEnabled || rebalanceIntervalNanos > 0) {
                 start = System.nanoTime();
             }
             try {
@@ -409,6 +428,11 @@ public class TaskletExecutionService {
                     dismissTasklet(t);
                 }
                 progressTracker.mergeWith(result);
+                if (rebalanceIntervalNanos > 0 && result.isMadeProgress()) {
+                    long elapsed = System.nanoTime() - start;
+                    t.busyNanos += elapsed;
+                    busyNanos += elapsed;
+                }
             } catch (Throwable e) {
                 handleTaskletExecutionError(t, e);
             } finally {
@@ -432,12 +456,79 @@ public class TaskletExecutionService {
             t.executionTracker.taskletDone();
             trackers.remove(t);
         }
+
+        /**
+         * Once per rebalance interval, hands one tasklet over to the least busy
+         * worker if this worker was busy for at least half of the interval.
+         * The tasklet is chosen so that the busy time of neither worker exceeds
+         * the current busy time of this worker, which avoids moving the same
+         * tasklet back and forth.
+         */
+        private void rebalance() {
+            long now = System.nanoTime();
+            if (now - nextRebalanceNanos < 0) {
+                return;
+            }
+            nextRebalanceNanos = now + rebalanceIntervalNanos;
+            long myBusyNanos = busyNanos;
+            busyNanos = 0;
+            lastBusyNanos.set(myBusyNanos);
+
+            TaskletTracker candidate = null;
+            CooperativeWorker target = null;
+            if (myBusyNanos >= rebalanceIntervalNanos / 2 && trackers.size() > 1) {
+                target = leastBusyWorker();
+                long imbalance = myBusyNanos - target.lastBusyNanos.get();
+                for (TaskletTracker t : trackers) {
+                    if (t.busyNanos > 0 && t.busyNanos < imbalance
+                            && (candidate == null || t.busyNanos > candidate.busyNanos)) {
+                        candidate = t;
+                    }
+                }
+            }
+            if (candidate != null) {
+                migrate(candidate, target);
+            }
+            for (TaskletTracker t : trackers) {
+                t.busyNanos = 0;
+            }
+        }
+
+        private CooperativeWorker leastBusyWorker() {
+            CooperativeWorker result = this;
+            for (CooperativeWorker worker : cooperativeWorkers) {
+                if (worker.lastBusyNanos.get() < result.lastBusyNanos.get()) {
+                    result = worker;
+                }
+            }
+            return result;
+        }
+
+        private void migrate(TaskletTracker t, CooperativeWorker target) {
+            long taskletBusyNanos = t.busyNanos;
+            t.busyNanos = 0;
+            synchronized (target) {
+                if (target.terminated) {
+                    return;
+                }
+                trackers.remove(t);
+                target.trackers.add(t);
+            }
+            // account for the migrated tasklet until the target measures its own busy time
+            target.lastBusyNanos.addAndGet(taskletBusyNanos);
+            lastBusyNanos.addAndGet(-taskletBusyNanos);
+            taskletMigrationCount.inc();
+            target.newTaskletSemaphore.release();
+            logger.finest("Tasklet %s migrated to another cooperative worker", t.tasklet);
+        }
     }
 
     private static final class TaskletTracker {
         final Tasklet tasklet;
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
+        // accessed only by the worker running the tasklet
+        long busyNanos;
 
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.jet.impl.execution.TaskletExecutionService.TASKLET_INIT_CLOSE_EXECUTOR_NAME;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
+
+/**
+ * A temporary file to which a processor writes items that don't fit into its
+ * memory budget, to read them back later. The items are stored in their
+ * serialized form, each one prefixed with its length.
+ * <p>
+ * The items are first written, then read back once in the order they were
+ * written. The file is deleted when it's closed.
+ * <p>
+ * The file is accessed using blocking I/O, so a cooperative processor must
+ * not use it on its own thread, it should use it from tasks running on the
+ * {@linkplain #spillExecutor spill executor} instead.
+ */
+public final class SpillFile implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InternalSerializationService serializationService;
+    private final File file;
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long count;
+
+    /**
+     * Creates a new file in the given directory.
+     */
+    public SpillFile(@Nonnull File directory, @Nonnull InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        try {
+            this.file = File.createTempFile("jet-spill-", ".bin", directory);
+            this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns the spill directory configured with {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_DIRECTORY}, or
+     * {@code null} if spilling is disabled or the processor doesn't run in a
+     * job, e.g. in a unit test.
+     */
+    @Nullable
+    public static File spillDirectory(@Nonnull Processor.Context context) {
+        if (!(context instanceof ProcCtx procCtx)) {
+            return null;
+        }
+        String directory = procCtx.nodeEngine().getProperties().getString(JET_SPILL_DIRECTORY);
+        if (directory == null) {
+            return null;
+        }
+        File file = new File(directory);
+        if (!file.isDirectory() && !file.mkdirs() && !file.isDirectory()) {
+            throw new IllegalStateException("Couldn't create the spill directory " + file.getAbsolutePath());
+        }
+        return file;
+    }
+
+    /**
+     * Returns the serialization service used to write to the spill files of
+     * the processor with the given context.
+     */
+    @Nonnull
+    public static InternalSerializationService serializationService(@Nonnull Processor.Context context) {
+        return ((InternalProcSupplierCtx) context).serializationService();
+    }
+
+    /**
+     * Returns the executor to run the blocking I/O of the spill files of the
+     * processor with the given context on. Only available if the {@link
+     * #spillDirectory} is.
+     */
+    @Nonnull
+    public static Executor spillExecutor(@Nonnull Processor.Context context) {
+        return ((ProcCtx) context).nodeEngine().getExecutionService().getExecutor(TASKLET_INIT_CLOSE_EXECUTOR_NAME);
+    }
+
+    /**
+     * Appends the item to the file.
+     */
+    public void write(@Nonnull Object item) {
+        Data data = serializationService.toData(item);
+        try {
+            out.writeInt(data.totalSize());
+            out.write(data.toByteArray());
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+        count++;
+    }
+
+    /**
+     * Returns the number of items written and not read yet.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Flushes the written items and releases the output stream. No more items
+     * can be written. It's called by {@link #read()} if needed, calling it
+     * earlier avoids keeping the file open until then.
+     */
+    public void finishWriting() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+            out = null;
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Finishes writing and returns a traverser over the written items in the
+     * order they were written. Must be called at most once.
+     */
+    @Nonnull
+    public <T> Traverser<T> read() {
+        finishWriting();
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+        return this::readNext;
+    }
+
+    @Override
+    public void close() {
+        closeResource(out);
+        closeResource(in);
+        deleteQuietly(file);
+    }
+
+    private <T> T readNext() {
+        if (count == 0) {
+            return null;
+        }
+        try {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            count--;
+            return serializationService.toObject(new HeapData(bytes));
+        } catch (IOException e) {
+            throw rethrow(e);
+        }
+    }
+}
@@ -51,7 +51,6 @@ import java.util.stream.Collectors;
 import static com.hazelcast.jet.core.Edge.from;
 import static com.hazelcast.jet.core.EventTimePolicy.eventTimePolicy;
 import static com.hazelcast.jet.impl.TopologicalSorter.checkTopologicalSort;
-import static com.hazelcast.jet.impl.util.Util.toList;
 import static java.util.stream.Collectors.toList;
 
 @SuppressWarnings("unchecked")
@@ -182,18 +181,17 @@ public class Planner {
             if (chain.get(i) instanceof FlatMapTransform) {
                 FunctionEx<Object, Traverser> function = ((FlatMapTransform) chain.get(i)).flatMapFn();
                 FunctionEx<Object, Object> inputMapFn = mergeMapFunctions(chain.subList(lastFlatMap, i));
-                if (inputMapFn != null) {
-                    flatMapFn = flatMapFn == null
-                            ? (Object t) -> {
-                                Object mappedValue = inputMapFn.apply(t);
-                                return mappedValue != null ? function.apply(mappedValue) : Traversers.empty();
-                            }
-                            : flatMapFn.andThen(r -> r.map(inputMapFn).flatMap(function));
-                } else {
-                    flatMapFn = flatMapFn == null
-                            ? function::apply
-                            : flatMapFn.andThen(r -> r.flatMap(function));
-                }
+                // apply the preceding map functions inside the flat-mapping function instead of
+                // wrapping the upstream traverser, that saves a mapping traverser per item
+                FunctionEx<Object, Traverser> stageFn = inputMapFn == null
+                        ? function
+                        : (Object t) -> {
+                            Object mappedValue = inputMapFn.apply(t);
+                            return mappedValue != null ? function.apply(mappedValue) : Traversers.empty();
+                        };
+                flatMapFn = flatMapFn == null
+                        ? stageFn
+                        : flatMapFn.andThen(r -> r.flatMap(stageFn));
                 lastFlatMap = i + 1;
             }
         }
@@ -223,11 +221,14 @@ public class Planner {
         if (chain.isEmpty()) {
             return null;
         }
-        List<FunctionEx> functions = toList(chain, t -> ((MapTransform) t).mapFn());
+        if (chain.size() == 1) {
+            return ((MapTransform) chain.get(0)).mapFn();
+        }
+        FunctionEx[] functions = chain.stream().map(t -> ((MapTransform) t).mapFn()).toArray(FunctionEx[]::new);
         return t -> {
             Object result = t;
-            for (int i = 0; i < functions.size() && result != null; i++) {
-                result = functions.get(i).apply(result);
+            for (int i = 0; i < functions.length && result != null; i++) {
+                result = functions[i].apply(result);
             }
             return result;
         };
@@ -23,34 +23,70 @@ import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
 
 import javax.annotation.Nonnull;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Batch processor that groups items by key and computes the supplied
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If the number of groups reaches the {@linkplain
+ * Processor.Context#maxProcessorAccumulatedRecords() limit}, a {@linkplain
+ * SpillFile#spillDirectory spill directory} is configured and the aggregate
+ * operation has a combine function, the accumulators are written to spill
+ * files, one per partition of the key hashes, instead of failing. When all
+ * items have been processed, the partitions are read back one by one and
+ * their accumulators combined, so only the groups of one partition are in
+ * memory at a time. If a partition still has more groups than the limit, the
+ * groups that don't fit are spilled again, partitioned by other bits of the
+ * key hash, and read back after the rest of the partition is emitted.
+ * <p>
+ * The spill files are written and read on the {@linkplain
+ * SpillFile#spillExecutor spill executor}, the processor doesn't take more
+ * items or emit more groups until that's done.
  */
 public class GroupP<K, A, R, OUT> extends AbstractProcessor {
 
-    protected final Map<K, A> keyToAcc = new HashMap<>();
+    static final int SPILL_PARTITION_COUNT = 32;
+    private static final int SPILL_PARTITION_BITS = Integer.numberOfTrailingZeros(SPILL_PARTITION_COUNT);
+
+    protected Map<K, A> keyToAcc = new HashMap<>();
 
     private final List<FunctionEx<?, ? extends K>> groupKeyFns;
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
 
     private long maxEntries;
+    private File spillDirectory;
+    private Processor.Context context;
+    private SpillFile[] spillFiles;
+    // the spilled partitions not read back yet, null until all groups are spilled
+    private Deque<SpilledPartition> spilledPartitions;
+    private CompletableFuture<Void> pendingSpill;
+    private CompletableFuture<ReadPartitionResult> pendingRead;
     private Traverser<OUT> resultTraverser;
 
     public GroupP(
@@ -76,37 +112,255 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (aggrOp.combineFn() != null) {
+            spillDirectory = SpillFile.spillDirectory(context);
+            this.context = context;
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        if (isSpilling()) {
+            return false;
+        }
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
-        A acc = keyToAcc.computeIfAbsent(key, k -> {
+        A acc = keyToAcc.get(key);
+        if (acc == null) {
             if (keyToAcc.size() == maxEntries) {
-                throw new AccumulationLimitExceededException();
+                if (spillDirectory == null) {
+                    throw new AccumulationLimitExceededException();
+                }
+                spill();
+                return false;
             }
 
-            return aggrOp.createFn().get();
-        });
+            acc = aggrOp.createFn().get();
+            keyToAcc.put(key, acc);
+        }
         aggrOp.accumulateFn(ordinal).accept(acc, item);
         return true;
     }
 
     @Override
     public boolean complete() {
-        if (resultTraverser == null) {
-            resultTraverser = new ResultTraverser()
-                    // reuse null filtering done by map()
-                    .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
+        if (isSpilling() || isReading()) {
+            return false;
+        }
+        if (spillFiles == null) {
+            if (resultTraverser == null) {
+                resultTraverser = resultTraverser();
+            }
+            return emitFromTraverser(resultTraverser);
+        }
+        if (spilledPartitions == null) {
+            spill();
+            spilledPartitions = new ArrayDeque<>(SPILL_PARTITION_COUNT);
+            for (SpillFile spillFile : spillFiles) {
+                spilledPartitions.add(new SpilledPartition(spillFile, 0));
+            }
+            return false;
+        }
+        if (resultTraverser != null) {
+            if (!emitFromTraverser(resultTraverser)) {
+                return false;
+            }
+            resultTraverser = null;
+        }
+        SpilledPartition partition = spilledPartitions.poll();
+        if (partition == null) {
+            return true;
+        }
+        pendingRead = supplyAsync(() -> readPartition(partition), SpillFile.spillExecutor(context));
+        return false;
+    }
+
+    @Override
+    public void close() {
+        if (spillFiles == null) {
+            return;
+        }
+        // wait for the spill executor to stop using the files
+        awaitQuietly(pendingSpill);
+        awaitQuietly(pendingRead);
+        for (SpillFile spillFile : spillFiles) {
+            spillFile.close();
+        }
+        if (spilledPartitions != null) {
+            for (SpilledPartition partition : spilledPartitions) {
+                partition.file.close();
+            }
         }
-        return emitFromTraverser(resultTraverser);
     }
 
     @Override
     public boolean closeIsCooperative() {
-        return true;
+        // closing deletes the spill files
+        return spillFiles == null;
+    }
+
+    private Traverser<OUT> resultTraverser() {
+        return new ResultTraverser()
+                // reuse null filtering done by map()
+                .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
+    }
+
+    /**
+     * Starts writing the current groups to the spill files and replaces them
+     * with an empty map.
+     */
+    private void spill() {
+        if (spillFiles == null) {
+            spillFiles = new SpillFile[SPILL_PARTITION_COUNT];
+            for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+                spillFiles[i] = new SpillFile(spillDirectory, SpillFile.serializationService(context));
+            }
+            getLogger().info("Spilling the accumulators to " + spillDirectory.getAbsolutePath()
+                    + " after reaching " + keyToAcc.size() + " groups");
+        }
+        Map<K, A> groups = keyToAcc;
+        keyToAcc = new HashMap<>();
+        SpillFile[] files = spillFiles;
+        pendingSpill = runAsync(() -> {
+            for (Entry<K, A> entry : groups.entrySet()) {
+                SpillFile spillFile = files[spillPartition(entry.getKey(), 0)];
+                spillFile.write(entry.getKey());
+                spillFile.write(entry.getValue());
+            }
+        }, SpillFile.spillExecutor(context));
+    }
+
+    /**
+     * Reads the groups of a spilled partition and combines their
+     * accumulators. Runs on the spill executor.
+     */
+    @SuppressWarnings("unchecked")
+    private ReadPartitionResult readPartition(SpilledPartition partition) {
+        Map<K, A> groups = new HashMap<>();
+        SpillFile[] overflowFiles = null;
+        try {
+            Traverser<Object> spilled = partition.file.read();
+            for (Object key; (key = spilled.next()) != null; ) {
+                A acc = (A) spilled.next();
+                A existing = groups.get(key);
+                if (existing != null) {
+                    aggrOp.combineFn().accept(existing, acc);
+                } else if (groups.size() < maxEntries) {
+                    groups.put((K) key, acc);
+                } else {
+                    // all remaining groups of this key are spilled again,
+                    // this one never had a group in memory
+                    if (overflowFiles == null) {
+                        overflowFiles = newOverflowFiles();
+                    }
+                    SpillFile overflowFile = overflowFiles[spillPartition(key, partition.level + 1)];
+                    overflowFile.write(key);
+                    overflowFile.write(acc);
+                }
+            }
+        } catch (Throwable e) {
+            closeAll(overflowFiles);
+            throw e;
+        } finally {
+            partition.file.close();
+        }
+        return new ReadPartitionResult(groups, overflowFiles, partition.level + 1);
+    }
+
+    private SpillFile[] newOverflowFiles() {
+        SpillFile[] files = new SpillFile[SPILL_PARTITION_COUNT];
+        try {
+            for (int i = 0; i < SPILL_PARTITION_COUNT; i++) {
+                files[i] = new SpillFile(spillDirectory, SpillFile.serializationService(context));
+            }
+        } catch (Throwable e) {
+            closeAll(files);
+            throw e;
+        }
+        return files;
+    }
+
+    /**
+     * Returns whether the groups are being spilled. If the spilling has
+     * finished, rethrows its failure.
+     */
+    private boolean isSpilling() {
+        if (pendingSpill == null) {
+            return false;
+        }
+        if (!pendingSpill.isDone()) {
+            return true;
+        }
+        CompletableFuture<Void> spill = pendingSpill;
+        pendingSpill = null;
+        await(spill);
+        return false;
+    }
+
+    /**
+     * Returns whether a spilled partition is being read. If the reading has
+     * finished, makes its groups the current ones and queues the groups
+     * spilled again to be read next.
+     */
+    private boolean isReading() {
+        if (pendingRead == null) {
+            return false;
+        }
+        if (!pendingRead.isDone()) {
+            return true;
+        }
+        CompletableFuture<ReadPartitionResult> read = pendingRead;
+        pendingRead = null;
+        ReadPartitionResult result = await(read);
+        if (result.overflowFiles != null) {
+            for (SpillFile overflowFile : result.overflowFiles) {
+                spilledPartitions.addFirst(new SpilledPartition(overflowFile, result.overflowLevel));
+            }
+        }
+        keyToAcc = result.groups;
+        resultTraverser = resultTraverser();
+        return false;
+    }
+
+    /**
+     * Returns the index of the spill file of the given key. Each level uses
+     * different bits of the hash, so that the keys of one partition are spread
+     * over all partitions of the next level. The levels after the bits run out
+     * use the highest bits, the keys with equal hashes are still emitted
+     * because each level reads back as many groups as the limit allows.
+     */
+    private static int spillPartition(Object key, int level) {
+        int shift = Math.min(level * SPILL_PARTITION_BITS, Integer.SIZE - SPILL_PARTITION_BITS);
+        return (fastIntMix(key.hashCode()) >>> shift) & (SPILL_PARTITION_COUNT - 1);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        if (future != null) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                ignore(e);
+            }
+        }
+    }
+
+    private static void closeAll(SpillFile[] files) {
+        if (files != null) {
+            for (SpillFile file : files) {
+                if (file != null) {
+                    file.close();
+                }
+            }
+        }
     }
 
     private class ResultTraverser implements Traverser<Entry<K, A>> {
@@ -124,4 +378,27 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
     }
+
+    private static final class SpilledPartition {
+        final SpillFile file;
+        // the number of times the groups in the file were spilled and read back
+        final int level;
+
+        SpilledPartition(SpillFile file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+    }
+
+    private final class ReadPartitionResult {
+        final Map<K, A> groups;
+        final SpillFile[] overflowFiles;
+        final int overflowLevel;
+
+        ReadPartitionResult(Map<K, A> groups, SpillFile[] overflowFiles, int overflowLevel) {
+            this.groups = groups;
+            this.overflowFiles = overflowFiles;
+            this.overflowLevel = overflowLevel;
+        }
+    }
 }
@@ -33,6 +33,7 @@ import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.util.FlatHashMap;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -41,7 +42,6 @@ import com.hazelcast.partition.PartitionAware;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -108,6 +108,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     // extracted lambdas to reduce GC litter
     private final LongFunction<Map<K, A>> createMapPerTsFunction;
     private final Function<K, A> createAccFunction;
+    private final Function<K, A> createWindowAccFunction;
 
     @Probe(name = "lateEventsDropped")
     private final Counter lateEventsDropped = SwCounter.newSwCounter();
@@ -167,7 +168,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         this.emptyAcc = aggrOp.createFn().get();
         this.createMapPerTsFunction = x -> {
             totalFrames.inc();
-            return new HashMap<>();
+            return new FlatHashMap<>();
         };
         this.createAccFunction = k -> {
             long newCount = totalKeysInFrames.inc();
@@ -176,6 +177,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             }
             return aggrOp.createFn().get();
         };
+        this.createWindowAccFunction = k -> aggrOp.createFn().get();
         this.windowWatermarkKey = windowWatermarkKey;
     }
 
@@ -418,16 +420,15 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     }
 
     private Map<K, A> recomputeWindow(long frameTs) {
-        Map<K, A> window = new HashMap<>();
+        Map<K, A> window = new FlatHashMap<>();
         for (long ts = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
              ts <= frameTs;
              ts += winPolicy.frameSize()
         ) {
             assert combineFn != null : "combineFn == null";
-            for (Entry<K, A> entry : tsToKeyToAcc.getOrDefault(ts, emptyMap()).entrySet()) {
-                combineFn.accept(
-                        window.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
-                        entry.getValue());
+            Map<K, A> frame = tsToKeyToAcc.get(ts);
+            if (frame != null) {
+                frame.forEach((key, acc) -> combineFn.accept(window.computeIfAbsent(key, createWindowAccFunction), acc));
             }
         }
         return window;
@@ -437,13 +438,15 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         if (patchingFrame == null) {
             return;
         }
-        for (Entry<K, A> e : patchingFrame.entrySet()) {
-            slidingWindow.compute(e.getKey(), (k, acc) -> {
-                A result = acc != null ? acc : aggrOp.createFn().get();
-                patchOp.accept(result, e.getValue());
-                return result.equals(emptyAcc) ? null : result;
-            });
-        }
+        // combine or deduct in place, the frames and the window are flat maps, so
+        // visiting their entries doesn't allocate
+        patchingFrame.forEach((key, frameAcc) -> {
+            A acc = slidingWindow.computeIfAbsent(key, createWindowAccFunction);
+            patchOp.accept(acc, frameAcc);
+            if (acc.equals(emptyAcc)) {
+                slidingWindow.remove(key);
+            }
+        });
     }
 
     private void completeWindow(long frameTs) {
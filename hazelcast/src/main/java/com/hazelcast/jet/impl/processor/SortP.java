@@ -20,34 +20,90 @@ import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.util.LoserTreeTraverser;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.jet.Traversers.traverseArray;
+import static com.hazelcast.jet.impl.util.ExceptionUtil.rethrow;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Batch processor that sorts its input and emits it in the {@code complete}
+ * phase.
+ * <p>
+ * If the number of items reaches the {@linkplain
+ * Processor.Context#maxProcessorAccumulatedRecords() limit} and a {@linkplain
+ * SpillFile#spillDirectory spill directory} is configured, the items are
+ * sorted and written to a spill file as a sorted run, instead of failing. The
+ * runs are merged using a {@link LoserTreeTraverser} when emitting the output.
+ * Once there are {@value #MAX_MERGED_RUNS} runs of the same level, they are
+ * merged into a single run of the next level, so that each item is rewritten
+ * only once per level and the number of files open at the same time stays
+ * bounded.
+ * <p>
+ * The runs are written, merged and read ahead on the {@linkplain
+ * SpillFile#spillExecutor spill executor}, the processor doesn't take more
+ * items or emit more output until the data it needs is there.
+ */
 public class SortP<T> extends AbstractProcessor {
 
+    static final int MAX_MERGED_RUNS = 64;
+    private static final int READ_BATCH_SIZE = 1024;
+
+    private final Comparator<T> comparator;
     private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
+    private Traverser<T> resultTraverser;
 
     private long maxItems;
+    private File spillDirectory;
+    private Processor.Context context;
+    // the runs at index i are the merge of MAX_MERGED_RUNS^i spilled runs
+    private List<List<SpillFile>> runsByLevel;
+    private CompletableFuture<Void> pendingIo;
+    private List<RunReader> runReaders;
+    // the readers which have no item read ahead
+    private List<RunReader> drainedReaders;
+    private T pendingItem;
 
     public SortP(@Nullable Comparator<T> comparator) {
+        this.comparator = comparator;
         this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        spillDirectory = SpillFile.spillDirectory(context);
+        this.context = context;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
+        if (isSpilling()) {
+            return false;
+        }
         if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+            if (spillDirectory == null) {
+                throw new AccumulationLimitExceededException();
+            }
+            spillRun();
+            return false;
         }
 
         priorityQueue.add((T) item);
@@ -56,11 +112,285 @@ public class SortP<T> extends AbstractProcessor {
 
     @Override
     public boolean complete() {
-        return emitFromTraverser(resultTraverser);
+        if (isSpilling()) {
+            return false;
+        }
+        if (runsByLevel == null) {
+            if (resultTraverser == null) {
+                resultTraverser = priorityQueue::poll;
+            }
+            return emitFromTraverser(resultTraverser);
+        }
+        if (runReaders == null) {
+            int runCount = runsByLevel.stream().mapToInt(List::size).sum();
+            if (runCount > MAX_MERGED_RUNS) {
+                int mergedRunCount = runCount - MAX_MERGED_RUNS + 1;
+                pendingIo = runAsync(() -> mergeSmallestRuns(mergedRunCount), SpillFile.spillExecutor(context));
+                return false;
+            }
+            runReaders = new ArrayList<>(runCount);
+            for (List<SpillFile> runs : runsByLevel) {
+                for (SpillFile run : runs) {
+                    runReaders.add(new RunReader(run));
+                }
+            }
+            drainedReaders = new ArrayList<>(runReaders);
+        }
+        while (true) {
+            if (pendingItem == null) {
+                // the merge must not reach a reader which has nothing read ahead
+                if (!readAhead()) {
+                    return false;
+                }
+                if (resultTraverser == null) {
+                    List<Traverser<T>> sources = new ArrayList<>(runReaders);
+                    sources.add(traverseArray(drainSorted()));
+                    // the tree takes the first item of each source
+                    resultTraverser = new LoserTreeTraverser<>(sources, comparator);
+                    continue;
+                }
+                pendingItem = resultTraverser.next();
+                if (pendingItem == null) {
+                    return true;
+                }
+            }
+            if (!tryEmit(pendingItem)) {
+                return false;
+            }
+            pendingItem = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (runsByLevel == null) {
+            return;
+        }
+        // wait for the spill executor to stop using the files
+        awaitQuietly(pendingIo);
+        if (runReaders != null) {
+            for (RunReader runReader : runReaders) {
+                awaitQuietly(runReader.nextBatch);
+            }
+        }
+        for (List<SpillFile> runs : runsByLevel) {
+            for (SpillFile run : runs) {
+                run.close();
+            }
+        }
     }
 
     @Override
     public boolean closeIsCooperative() {
+        // closing deletes the spill files
+        return runsByLevel == null;
+    }
+
+    private void spillRun() {
+        if (runsByLevel == null) {
+            runsByLevel = new ArrayList<>();
+            getLogger().info("Spilling sorted runs to " + spillDirectory.getAbsolutePath()
+                    + " after reaching " + priorityQueue.size() + " items");
+        }
+        T[] items = drainSorted();
+        pendingIo = runAsync(() -> {
+            SpillFile run = newSpillFile();
+            try {
+                for (T item : items) {
+                    run.write(item);
+                }
+                run.finishWriting();
+            } catch (Throwable e) {
+                run.close();
+                throw e;
+            }
+            addRun(run, 0);
+        }, SpillFile.spillExecutor(context));
+    }
+
+    /**
+     * Adds the run to the given level. If the level is full, merges its runs
+     * into a run of the next level. Runs on the spill executor.
+     */
+    private void addRun(SpillFile run, int level) {
+        if (runsByLevel.size() == level) {
+            runsByLevel.add(new ArrayList<>(MAX_MERGED_RUNS));
+        }
+        List<SpillFile> runs = runsByLevel.get(level);
+        runs.add(run);
+        if (runs.size() == MAX_MERGED_RUNS) {
+            SpillFile merged = mergeRuns(runs);
+            runs.clear();
+            addRun(merged, level + 1);
+        }
+    }
+
+    /**
+     * Merges the given number of runs from the lowest levels into one run, so
+     * that the rest of the runs can be merged at once. Runs on the spill
+     * executor.
+     */
+    private void mergeSmallestRuns(int count) {
+        List<SpillFile> smallest = new ArrayList<>(count);
+        for (List<SpillFile> runs : runsByLevel) {
+            while (smallest.size() < count && !runs.isEmpty()) {
+                smallest.add(runs.remove(runs.size() - 1));
+            }
+            if (smallest.size() == count) {
+                runs.add(mergeRuns(smallest));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Merges the runs into a new run and deletes them.
+     */
+    private SpillFile mergeRuns(List<SpillFile> runs) {
+        SpillFile merged = newSpillFile();
+        try {
+            List<Traverser<T>> sources = new ArrayList<>(runs.size());
+            for (SpillFile run : runs) {
+                sources.add(run.read());
+            }
+            Traverser<T> traverser = new LoserTreeTraverser<>(sources, comparator);
+            for (T item; (item = traverser.next()) != null; ) {
+                merged.write(item);
+            }
+            merged.finishWriting();
+        } catch (Throwable e) {
+            merged.close();
+            throw e;
+        } finally {
+            for (SpillFile run : runs) {
+                run.close();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns whether a run is being spilled or merged. If it has finished,
+     * rethrows its failure.
+     */
+    private boolean isSpilling() {
+        if (pendingIo == null) {
+            return false;
+        }
+        if (!pendingIo.isDone()) {
+            return true;
+        }
+        CompletableFuture<Void> io = pendingIo;
+        pendingIo = null;
+        await(io);
+        return false;
+    }
+
+    /**
+     * Returns whether all run readers have an item read ahead or are
+     * exhausted.
+     */
+    private boolean readAhead() {
+        for (Iterator<RunReader> it = drainedReaders.iterator(); it.hasNext(); ) {
+            if (!it.next().isReady()) {
+                return false;
+            }
+            it.remove();
+        }
         return true;
     }
+
+    @SuppressWarnings("unchecked")
+    private T[] drainSorted() {
+        T[] items = (T[]) priorityQueue.toArray();
+        priorityQueue.clear();
+        Arrays.sort(items, comparator);
+        return items;
+    }
+
+    private SpillFile newSpillFile() {
+        return new SpillFile(spillDirectory, SpillFile.serializationService(context));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        if (future != null) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                ignore(e);
+            }
+        }
+    }
+
+    /**
+     * Traverses a run, reading it ahead in batches on the spill executor. It
+     * must only be advanced when it's {@linkplain #isReady() ready}.
+     */
+    private final class RunReader implements Traverser<T> {
+        private final SpillFile run;
+        // only used on the spill executor
+        private Traverser<T> runItems;
+        private List<T> batch = emptyList();
+        private int index;
+        // null if the run has no more batches
+        private CompletableFuture<List<T>> nextBatch;
+
+        RunReader(SpillFile run) {
+            this.run = run;
+            readNextBatch();
+        }
+
+        /**
+         * Returns whether the reader has an item read ahead or is exhausted.
+         */
+        boolean isReady() {
+            if (index < batch.size() || nextBatch == null) {
+                return true;
+            }
+            if (!nextBatch.isDone()) {
+                return false;
+            }
+            batch = await(nextBatch);
+            index = 0;
+            if (batch.size() == READ_BATCH_SIZE) {
+                readNextBatch();
+            } else {
+                nextBatch = null;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (index == batch.size()) {
+                return null;
+            }
+            T item = batch.get(index++);
+            if (index == batch.size()) {
+                drainedReaders.add(this);
+            }
+            return item;
+        }
+
+        private void readNextBatch() {
+            nextBatch = supplyAsync(() -> {
+                if (runItems == null) {
+                    runItems = run.read();
+                }
+                List<T> items = new ArrayList<>(READ_BATCH_SIZE);
+                for (T item; items.size() < READ_BATCH_SIZE && (item = runItems.next()) != null; ) {
+                    items.add(item);
+                }
+                return items;
+            }, SpillFile.spillExecutor(context));
+        }
+    }
 }
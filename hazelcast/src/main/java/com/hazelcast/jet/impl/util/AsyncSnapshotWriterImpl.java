@@ -303,7 +303,12 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
             }
         }
 
-        // we're done
+        // we're done. The buffers grow up to the chunk size for every partition
+        // written to, release those not written to during this snapshot. The
+        // others are likely to be written to again in the next one.
+        for (CustomByteArrayOutputStream buffer : buffers) {
+            buffer.trimIfIdle();
+        }
         currentMap = null;
         if (logger.isFineEnabled()) {
             logger.fine("Stats for %s: keys=%,d, chunks=%,d, bytes=%,d",
@@ -458,6 +463,8 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
 
         private byte[] data;
         private int size;
+        // the largest size since the last trimIfIdle() call
+        private int peakSize;
         private int capacityLimit;
 
         CustomByteArrayOutputStream(int capacityLimit) {
@@ -497,9 +504,21 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
 
         void reset() {
+            peakSize = Math.max(peakSize, size);
             size = 0;
         }
 
+        /**
+         * Shrinks the backing array to the current size if the buffer didn't
+         * grow beyond it since the previous call.
+         */
+        void trimIfIdle() {
+            if (peakSize <= size && data.length != size) {
+                data = size == 0 ? EMPTY_BYTE_ARRAY : Arrays.copyOf(data, size);
+            }
+            peakSize = size;
+        }
+
         @Nonnull
         byte[] toByteArray() {
             return Arrays.copyOf(data, size);
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A hash map which stores the keys and values next to each other in a single
+ * array, using open addressing with linear probing.
+ * <p>
+ * Unlike {@link java.util.HashMap}, it doesn't allocate a node per entry, so a
+ * map holding many small entries for a long time, like the per-frame
+ * accumulators of a window aggregation, puts much less load on the GC. The
+ * entries returned by the iterator of the {@link #entrySet()} are created on
+ * the fly; use {@link #forEach(BiConsumer)} to visit the entries without
+ * allocation.
+ * <p>
+ * The entry set iterator doesn't support removal and its entries must not be
+ * used after the map is modified. The map isn't thread safe.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public final class FlatHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+    private static final double LOAD_FACTOR = 0.6;
+
+    // key at even index, value at the next odd index
+    private Object[] table;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private EntrySet entrySet;
+
+    public FlatHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public FlatHashMap(int initialCapacity) {
+        allocate(nextPowerOfTwo(Math.max(initialCapacity, 2)));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) table[index + 1] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object maskedKey = maskNull(key);
+        int index = slotOf(maskedKey);
+        if (table[index] != null) {
+            V oldValue = (V) table[index + 1];
+            table[index + 1] = value;
+            return oldValue;
+        }
+        insert(index, maskedKey, value);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, @Nonnull Function<? super K, ? extends V> mappingFunction) {
+        Object maskedKey = maskNull(key);
+        int index = slotOf(maskedKey);
+        if (table[index] != null && table[index + 1] != null) {
+            return (V) table[index + 1];
+        }
+        V value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+        if (table[index] != null) {
+            table[index + 1] = value;
+        } else {
+            // the mapping function might have modified the map
+            index = slotOf(maskedKey);
+            if (table[index] != null) {
+                table[index + 1] = value;
+            } else {
+                insert(index, maskedKey, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = (V) table[index + 1];
+        delete(index);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(table, null);
+            size = 0;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] != null) {
+                action.accept((K) unmaskNull(table[i]), (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        int index = slotOf(maskNull(key));
+        return table[index] != null ? index : -1;
+    }
+
+    /**
+     * Returns the index of the key, or of the empty slot where it belongs.
+     */
+    private int slotOf(Object maskedKey) {
+        Object[] table = this.table;
+        int index = (fastIntMix(maskedKey.hashCode()) & mask) << 1;
+        for (Object k; (k = table[index]) != null; index = (index + 2) & (table.length - 1)) {
+            if (k == maskedKey || k.equals(maskedKey)) {
+                return index;
+            }
+        }
+        return index;
+    }
+
+    private void insert(int index, Object maskedKey, Object value) {
+        table[index] = maskedKey;
+        table[index + 1] = value;
+        if (++size > resizeThreshold) {
+            rehash(table.length);
+        }
+    }
+
+    private void delete(int index) {
+        // shift back the following entries of the cluster, so that probing
+        // doesn't stop at the emptied slot
+        Object[] table = this.table;
+        int length = table.length;
+        int empty = index;
+        for (int i = (index + 2) & (length - 1); table[i] != null; i = (i + 2) & (length - 1)) {
+            int home = (fastIntMix(table[i].hashCode()) & mask) << 1;
+            // move the entry if its home slot isn't cyclically in (empty, i]
+            if (((i - home) & (length - 1)) >= ((i - empty) & (length - 1))) {
+                table[empty] = table[i];
+                table[empty + 1] = table[i + 1];
+                empty = i;
+            }
+        }
+        table[empty] = null;
+        table[empty + 1] = null;
+        size--;
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldTable = table;
+        allocate(newCapacity);
+        for (int i = 0; i < oldTable.length; i += 2) {
+            if (oldTable[i] != null) {
+                int index = slotOf(oldTable[i]);
+                table[index] = oldTable[i];
+                table[index + 1] = oldTable[i + 1];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new Object[capacity << 1];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static Object unmaskNull(Object key) {
+        return key == NULL_KEY ? null : key;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            FlatHashMap.this.clear();
+        }
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final Object[] table = FlatHashMap.this.table;
+        private int index = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return index < table.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (table != FlatHashMap.this.table) {
+                throw new ConcurrentModificationException();
+            }
+            Entry<K, V> entry = new FlatEntry((K) unmaskNull(table[index]), index);
+            index = advance(index + 2);
+            return entry;
+        }
+
+        private int advance(int from) {
+            int i = from;
+            while (i < table.length && table[i] == null) {
+                i += 2;
+            }
+            return i;
+        }
+    }
+
+    private final class FlatEntry extends SimpleEntry<K, V> {
+        private final int index;
+
+        @SuppressWarnings("unchecked")
+        FlatEntry(K key, int index) {
+            super(key, (V) table[index + 1]);
+            this.index = index;
+        }
+
+        @Override
+        public V setValue(V value) {
+            table[index + 1] = value;
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.jet.Traverser;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A traverser which merges sorted traversers into a single sorted traverser
+ * using a loser tree.
+ * <p>
+ * The inner nodes of the tree hold the source which lost the comparison at
+ * that node, and the root holds the overall winner. After the head of the
+ * winning source is emitted, only the path from its leaf to the root is
+ * replayed, so each item takes {@code log2(k)} comparisons for {@code k}
+ * sources, half of what a binary heap needs.
+ * <p>
+ * The sources must not return {@code null} before they are exhausted.
+ *
+ * @param <T> type of the items
+ */
+public final class LoserTreeTraverser<T> implements Traverser<T> {
+
+    private final Traverser<? extends T>[] sources;
+    private final Comparator<? super T> comparator;
+    private final Object[] heads;
+    // tree[0] is the winner, tree[1..k-1] are the losers of the inner nodes
+    private final int[] tree;
+    private final int k;
+
+    /**
+     * @param sources    the sorted sources
+     * @param comparator the comparator the sources are sorted by, or {@code
+     *                   null} for the natural order
+     */
+    @SuppressWarnings("unchecked")
+    public LoserTreeTraverser(@Nonnull List<? extends Traverser<? extends T>> sources,
+                              @Nullable Comparator<? super T> comparator) {
+        this.sources = sources.toArray(new Traverser[0]);
+        this.comparator = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        this.k = this.sources.length;
+        this.heads = new Object[k];
+        this.tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; i++) {
+            heads[i] = this.sources[i].next();
+        }
+        // index k is a sentinel which wins over all sources, it is pushed out
+        // of the tree while the sources are replayed
+        Arrays.fill(tree, k);
+        for (int i = k - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (k == 0) {
+            return null;
+        }
+        int winner = tree[0];
+        T item = (T) heads[winner];
+        if (item == null) {
+            // the winner is exhausted, so are all other sources
+            return null;
+        }
+        heads[winner] = sources[winner].next();
+        replay(winner);
+        return item;
+    }
+
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (source + k) >> 1; node > 0; node >>= 1) {
+            if (wins(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean wins(int source1, int source2) {
+        if (source1 == k || source2 == k) {
+            return source1 == k;
+        }
+        T head1 = (T) heads[source1];
+        T head2 = (T) heads[source2];
+        if (head1 == null || head2 == null) {
+            // exhausted sources lose
+            return head2 == null && head1 != null;
+        }
+        return comparator.compare(head1, head2) < 0;
+    }
+}
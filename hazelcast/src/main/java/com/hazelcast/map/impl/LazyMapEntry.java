@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.compact.CompactDataView;
 import com.hazelcast.map.ExtendedMapEntry;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -132,6 +133,35 @@ public class LazyMapEntry<K, V> extends CachedQueryEntry<K, V>
         valueData = null;
     }
 
+    /**
+     * Returns a view over the value of this entry which reads and updates
+     * the fields of the value without deserializing it, if the value is
+     * Compact serialized. The updates made through the view are applied to
+     * this entry by {@link #setCompactValue(CompactDataView)}.
+     *
+     * @return the view over the value, or {@code null} if the value is
+     * {@code null} or not Compact serialized.
+     */
+    public CompactDataView getCompactValue() {
+        if (hasNullValue()) {
+            return null;
+        }
+        Data data = getValueData();
+        return data.isCompact() ? new CompactDataView(serializationService, data) : null;
+    }
+
+    /**
+     * Similar to calling {@link #setValue} with the current value of the given
+     * view but doesn't deserialize the old or the new value.
+     */
+    public void setCompactValue(CompactDataView compactValue) {
+        modified = true;
+        valueObject = null;
+        valueData = compactValue.toData();
+        changeExpiryOnUpdate = true;
+        newTtl = UNSET;
+    }
+
     /**
      * Checks if this entry has null value without any deserialization.
      *
@@ -524,6 +524,13 @@ public abstract class AbstractInvocationFuture<V> extends InternalCompletableFut
     protected void onInterruptDetected() {
     }
 
+    /**
+     * Called when the calling thread is about to block waiting for this
+     * future to complete.
+     */
+    protected void onBlock() {
+    }
+
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
         return completeExceptionally(new CancellationException());
@@ -545,6 +552,7 @@ public abstract class AbstractInvocationFuture<V> extends InternalCompletableFut
         if (response != UNRESOLVED) {
             return resolveAndThrowWithJoinConvention(response);
         }
+        onBlock();
 
         boolean interrupted = false;
         try {
@@ -576,6 +584,7 @@ public abstract class AbstractInvocationFuture<V> extends InternalCompletableFut
             // no registration was done since a value is available.
             return resolveAndThrowForJoinInternal(response);
         }
+        onBlock();
 
         boolean interrupted = false;
         try {
@@ -609,6 +618,7 @@ public abstract class AbstractInvocationFuture<V> extends InternalCompletableFut
             // no registration was done since a value is available.
             return resolveAndThrowIfException(response);
         }
+        onBlock();
 
         boolean interrupted = false;
         try {
@@ -633,6 +643,7 @@ public abstract class AbstractInvocationFuture<V> extends InternalCompletableFut
         if (response != UNRESOLVED) {
             return resolveAndThrowIfException(response);
         }
+        onBlock();
 
         long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
         boolean interrupted = false;
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * An envelope around a single event which is delivered to several listener
+ * registrations on the same subscriber. Compared to sending an
+ * {@link EventEnvelope} per registration, the event is serialized, sent and
+ * deserialized only once per target member.
+ *
+ * @see EventServiceImpl#sendEventBatch
+ */
+public final class BatchEventEnvelope implements IdentifiedDataSerializable {
+
+    private UUID[] ids;
+    private String serviceName;
+    private Object event;
+
+    public BatchEventEnvelope() {
+    }
+
+    BatchEventEnvelope(UUID[] ids, String serviceName, Object event) {
+        this.ids = ids;
+        this.serviceName = serviceName;
+        this.event = event;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public Object getEvent() {
+        return event;
+    }
+
+    /** The registration IDs of the listeners this event should be dispatched to. */
+    public UUID[] getEventIds() {
+        return ids;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SpiDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SpiDataSerializerHook.BATCH_EVENT_ENVELOPE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(serviceName);
+        out.writeInt(ids.length);
+        for (UUID id : ids) {
+            UUIDSerializationUtil.writeUUID(out, id);
+        }
+        IOUtil.writeObject(out, event);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        serviceName = in.readString();
+        int size = in.readInt();
+        ids = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = UUIDSerializationUtil.readUUID(in);
+        }
+        event = IOUtil.readObject(in);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchEventEnvelope{ids=" + Arrays.toString(ids) + ", serviceName='" + serviceName
+                + "', event=" + event + '}';
+    }
+}
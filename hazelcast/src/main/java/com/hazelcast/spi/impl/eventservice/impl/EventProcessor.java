@@ -53,27 +53,61 @@ public class EventProcessor implements StripedRunnable {
      * @see EventPublishingService#dispatchEvent(Object, Object)
      */
     void process(EventEnvelope envelope) {
-        Object event = getEvent(envelope);
+        Object event = getEvent(envelope.getEvent());
         String serviceName = envelope.getServiceName();
         EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
-        Registration registration = getRegistration(envelope, serviceName);
+        Registration registration = getRegistration(envelope.getEventId(), serviceName);
         if (registration == null) {
             return;
         }
         service.dispatchEvent(event, registration.getListener());
     }
 
+    /**
+     * Processes the event contained in the batch by dispatching it on the responsible
+     * {@link EventPublishingService} once for every registration in the batch. The event
+     * is deserialized only once and shared between the listeners. A failure of one listener
+     * does not prevent dispatching to the others, the first failure is rethrown afterwards.
+     *
+     * @param batch the event to be processed together with the registrations it targets
+     * @see EventPublishingService#dispatchEvent(Object, Object)
+     */
+    void process(BatchEventEnvelope batch) {
+        String serviceName = batch.getServiceName();
+        EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
+        Object event = null;
+        RuntimeException failure = null;
+        for (UUID id : batch.getEventIds()) {
+            Registration registration = getRegistration(id, serviceName);
+            if (registration == null) {
+                continue;
+            }
+            if (event == null) {
+                event = getEvent(batch.getEvent());
+            }
+            try {
+                service.dispatchEvent(event, registration.getListener());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
     /**
      * Returns the local registration responsible for the event and service or {@code null} if none exists,
      * the registration is not local or there is no listener in the registration.
      *
-     * @param eventEnvelope the event for which we need the registration
-     * @param serviceName   the service name
+     * @param id          the registration ID of the event
+     * @param serviceName the service name
      * @return the listener registration or {@code null} if none exists, it is not local or there is no listener in
      * the registration
      */
-    private Registration getRegistration(EventEnvelope eventEnvelope, String serviceName) {
+    private Registration getRegistration(UUID id, String serviceName) {
         EventServiceSegment segment = eventService.getSegment(serviceName, false);
         if (segment == null) {
             if (eventService.nodeEngine.isRunning()) {
@@ -82,7 +116,6 @@ public class EventProcessor implements StripedRunnable {
             return null;
         }
 
-        UUID id = eventEnvelope.getEventId();
         Registration registration = (Registration) segment.getRegistrationIdMap().get(id);
         if (registration == null) {
             if (eventService.nodeEngine.isRunning()) {
@@ -107,9 +140,8 @@ public class EventProcessor implements StripedRunnable {
         return registration;
     }
 
-    /** Returns the deserialized event object contained in the {@code eventEnvelope} */
-    private Object getEvent(EventEnvelope eventEnvelope) {
-        Object event = eventEnvelope.getEvent();
+    /** Returns the deserialized event object, deserializing it if it is still in serialized form */
+    private Object getEvent(Object event) {
         if (event instanceof Data) {
             event = eventService.nodeEngine.toObject(event);
         }
@@ -48,9 +48,13 @@ import com.hazelcast.spi.properties.HazelcastProperties;
 import javax.annotation.Nonnull;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -63,7 +67,10 @@ import java.util.logging.Level;
 
 import static com.hazelcast.instance.EndpointQualifier.MEMBER;
 import static com.hazelcast.internal.cluster.Versions.V5_3;
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_DISCRIMINATOR_SERVICE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_BATCH_PACKET_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENT_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_QUEUE_CAPACITY;
@@ -81,6 +88,7 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_MAX_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_CAPACITY;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_SYNC_TIMEOUT_MILLIS;
@@ -106,11 +114,15 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * define your custom ordering. Events with the same order key will be processed by the same thread on
  * the executor.
  * <p>
+ * When an event is published to several registrations on the same remote subscriber, the event is
+ * sent once per subscriber as a {@link BatchEventEnvelope} (up to {@link #eventBatchMaxSize} registrations
+ * per packet) instead of once per registration.
+ * <p>
  * This order can still be broken in some cases. This is possible because remote events are asynchronous,
  * and we don't wait for the response before publishing the next event. The previously published
  * event can be retransmitted causing it to be received by the target node at a later time.
  */
-@SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
+@SuppressWarnings({"checkstyle:classdataabstractioncoupling", "checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
 public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     public static final String SERVICE_NAME = "hz:core:eventService";
@@ -176,11 +188,19 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
     private final MwCounter rejectedCount = newMwCounter();
     @Probe(name = EVENT_METRIC_EVENT_SERVICE_SYNC_DELIVERY_FAILURE_COUNT)
     private final MwCounter syncDeliveryFailureCount = newMwCounter();
+    /** The number of remote event packets carrying a {@link BatchEventEnvelope}. */
+    @Probe(name = EVENT_METRIC_EVENT_SERVICE_BATCH_PACKET_COUNT)
+    private final MwCounter batchPacketCount = newMwCounter();
+    /** The number of registrations served by remote event packets carrying a {@link BatchEventEnvelope}. */
+    @Probe(name = EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT)
+    private final MwCounter batchedEventCount = newMwCounter();
 
     private final int sendEventSyncTimeoutMillis;
 
     private final InternalSerializationService serializationService;
     private final int eventSyncFrequency;
+    /** The maximum number of registrations on a single subscriber served by one remote event packet. */
+    private final int eventBatchMaxSize;
 
     private final ConcurrentMap<UUID, Object> listenerCache = new ConcurrentHashMap<>();
 
@@ -194,6 +214,7 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         this.eventQueueTimeoutMs = hazelcastProperties.getMillis(EVENT_QUEUE_TIMEOUT_MILLIS);
         this.sendEventSyncTimeoutMillis = hazelcastProperties.getInteger(EVENT_SYNC_TIMEOUT_MILLIS);
         this.eventSyncFrequency = loadEventSyncFrequency();
+        this.eventBatchMaxSize = hazelcastProperties.getInteger(EVENT_BATCH_MAX_SIZE);
 
         this.eventExecutor = new StripedExecutor(
                 nodeEngine.getNode().getLogger(EventServiceImpl.class),
@@ -539,7 +560,7 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     @Override
     public void publishEvent(String serviceName, Collection<EventRegistration> registrations, Object event, int orderKey) {
-        Data eventData = null;
+        List<EventRegistration> remoteRegistrations = null;
         for (EventRegistration registration : registrations) {
             if (!(registration instanceof Registration)) {
                 throw new IllegalArgumentException();
@@ -549,11 +570,13 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
                 continue;
             }
 
-            if (eventData == null) {
-                eventData = serializationService.toData(event);
+            if (remoteRegistrations == null) {
+                remoteRegistrations = new ArrayList<>(registrations.size());
             }
-            EventEnvelope eventEnvelope = new EventEnvelope(registration.getId(), serviceName, eventData);
-            sendEvent(registration.getSubscriber(), eventEnvelope, orderKey);
+            remoteRegistrations.add(registration);
+        }
+        if (remoteRegistrations != null) {
+            sendEvent(serviceName, remoteRegistrations, serializationService.toData(event), orderKey);
         }
     }
 
@@ -572,6 +595,7 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
             return;
         }
         Data eventData = serializationService.toData(event);
+        List<EventRegistration> remoteRegistrations = new ArrayList<>(registrations.size());
         for (EventRegistration registration : registrations) {
             if (!(registration instanceof Registration)) {
                 throw new IllegalArgumentException();
@@ -579,9 +603,9 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
             if (isLocal(registration)) {
                 continue;
             }
-            EventEnvelope eventEnvelope = new EventEnvelope(registration.getId(), serviceName, eventData);
-            sendEvent(registration.getSubscriber(), eventEnvelope, orderKey);
+            remoteRegistrations.add(registration);
         }
+        sendEvent(serviceName, remoteRegistrations, eventData, orderKey);
     }
 
     /**
@@ -618,6 +642,48 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         }
     }
 
+    /**
+     * Sends the serialized event to all given remote registrations. Registrations sharing the same subscriber
+     * are served by a single {@link BatchEventEnvelope} packet, if batching is enabled and supported by the
+     * cluster version. Otherwise, an {@link EventEnvelope} is sent for each registration.
+     *
+     * @param serviceName   the name of the service responsible for this event
+     * @param registrations the remote registrations
+     * @param eventData     the serialized event
+     * @param orderKey      the order key of the event
+     */
+    private void sendEvent(String serviceName, List<EventRegistration> registrations, Data eventData, int orderKey) {
+        if (registrations.size() == 1 || !isEventBatchingEnabled()) {
+            for (EventRegistration registration : registrations) {
+                EventEnvelope eventEnvelope = new EventEnvelope(registration.getId(), serviceName, eventData);
+                sendEvent(registration.getSubscriber(), eventEnvelope, orderKey);
+            }
+            return;
+        }
+
+        Map<Address, List<UUID>> idsBySubscriber = new HashMap<>();
+        for (EventRegistration registration : registrations) {
+            idsBySubscriber.computeIfAbsent(registration.getSubscriber(), k -> new ArrayList<>()).add(registration.getId());
+        }
+        for (Map.Entry<Address, List<UUID>> entry : idsBySubscriber.entrySet()) {
+            Address subscriber = entry.getKey();
+            List<UUID> ids = entry.getValue();
+            if (ids.size() == 1) {
+                sendEvent(subscriber, new EventEnvelope(ids.get(0), serviceName, eventData), orderKey);
+                continue;
+            }
+            for (int from = 0; from < ids.size(); from += eventBatchMaxSize) {
+                List<UUID> batchIds = ids.subList(from, Math.min(ids.size(), from + eventBatchMaxSize));
+                sendEventBatch(subscriber, new BatchEventEnvelope(batchIds.toArray(new UUID[0]), serviceName, eventData),
+                        orderKey);
+            }
+        }
+    }
+
+    private boolean isEventBatchingEnabled() {
+        return eventBatchMaxSize > 1 && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
+    }
+
     /**
      * Sends a remote event to the {@code subscriber}.
      * Each event segment keeps track of the published event count. On every {@link #eventSyncFrequency} the event will
@@ -633,27 +699,70 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         boolean sync = segment.incrementPublish() % eventSyncFrequency == 0;
 
         if (sync) {
-            SendEventOperation op = new SendEventOperation(eventEnvelope, orderKey);
-            Future f = nodeEngine.getOperationService()
-                    .createInvocationBuilder(serviceName, op, subscriber)
-                    .setTryCount(SEND_RETRY_COUNT).invoke();
-            try {
-                f.get(sendEventSyncTimeoutMillis, MILLISECONDS);
-            } catch (Exception e) {
-                syncDeliveryFailureCount.inc();
-                if (logger.isFinestEnabled()) {
-                    logger.finest("Sync event delivery failed. Event: " + eventEnvelope, e);
-                }
-            }
+            sendEventSync(subscriber, eventEnvelope, orderKey);
         } else {
-            Packet packet = new Packet(serializationService.toBytes(eventEnvelope), orderKey)
-                    .setPacketType(Packet.Type.EVENT);
+            transmitEvent(subscriber, eventEnvelope, orderKey);
+        }
+    }
 
-            ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
-            if (!cm.transmit(packet, subscriber)) {
-                if (nodeEngine.isRunning()) {
-                    logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
-                }
+    /**
+     * Sends a batch of remote events to the {@code subscriber}. The batch counts as one publication for each
+     * registration it contains. If the batch crosses a multiple of {@link #eventSyncFrequency}, the envelope
+     * of the registration at that multiple is sent synchronously and the rest of the batch is sent as a
+     * single asynchronous packet, so a batch costs at most one blocking round trip.
+     */
+    private void sendEventBatch(Address subscriber, BatchEventEnvelope batch, int orderKey) {
+        EventServiceSegment segment = getSegment(batch.getServiceName(), true);
+        UUID[] ids = batch.getEventIds();
+        long remainder = segment.incrementPublish(ids.length) % eventSyncFrequency;
+        if (remainder >= ids.length) {
+            transmitEventBatch(subscriber, batch, orderKey);
+            return;
+        }
+
+        // the registration whose publication is a multiple of eventSyncFrequency
+        int syncIndex = ids.length - 1 - (int) remainder;
+        sendEventSync(subscriber, new EventEnvelope(ids[syncIndex], batch.getServiceName(), batch.getEvent()), orderKey);
+        UUID[] asyncIds = new UUID[ids.length - 1];
+        System.arraycopy(ids, 0, asyncIds, 0, syncIndex);
+        System.arraycopy(ids, syncIndex + 1, asyncIds, syncIndex, asyncIds.length - syncIndex);
+        if (asyncIds.length == 1) {
+            transmitEvent(subscriber, new EventEnvelope(asyncIds[0], batch.getServiceName(), batch.getEvent()), orderKey);
+        } else {
+            transmitEventBatch(subscriber, new BatchEventEnvelope(asyncIds, batch.getServiceName(), batch.getEvent()),
+                    orderKey);
+        }
+    }
+
+    private void transmitEventBatch(Address subscriber, BatchEventEnvelope batch, int orderKey) {
+        batchPacketCount.inc();
+        batchedEventCount.inc(batch.getEventIds().length);
+        transmitEvent(subscriber, batch, orderKey);
+    }
+
+    private void sendEventSync(Address subscriber, EventEnvelope eventEnvelope, int orderKey) {
+        SendEventOperation op = new SendEventOperation(eventEnvelope, orderKey);
+        Future f = nodeEngine.getOperationService()
+                .createInvocationBuilder(eventEnvelope.getServiceName(), op, subscriber)
+                .setTryCount(SEND_RETRY_COUNT).invoke();
+        try {
+            f.get(sendEventSyncTimeoutMillis, MILLISECONDS);
+        } catch (Exception e) {
+            syncDeliveryFailureCount.inc();
+            if (logger.isFinestEnabled()) {
+                logger.finest("Sync event delivery failed. Event: " + eventEnvelope, e);
+            }
+        }
+    }
+
+    private void transmitEvent(Address subscriber, Object envelope, int orderKey) {
+        Packet packet = new Packet(serializationService.toBytes(envelope), orderKey)
+                .setPacketType(Packet.Type.EVENT);
+
+        ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
+        if (!cm.transmit(packet, subscriber)) {
+            if (nodeEngine.isRunning()) {
+                logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
             }
         }
     }
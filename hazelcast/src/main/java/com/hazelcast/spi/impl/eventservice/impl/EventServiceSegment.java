@@ -239,6 +239,10 @@ public class EventServiceSegment<S> {
         return totalPublishes.incrementAndGet();
     }
 
+    long incrementPublish(int count) {
+        return totalPublishes.addAndGet(count);
+    }
+
     boolean hasRegistration(String topic) {
         Collection<Registration> topicRegistrations = registrations.get(topic);
         return !(topicRegistrations == null || topicRegistrations.isEmpty());
@@ -32,6 +32,7 @@ import com.hazelcast.internal.util.executor.ManagedExecutorService;
 import com.hazelcast.internal.util.executor.NamedThreadPoolExecutor;
 import com.hazelcast.internal.util.executor.PoolExecutorThreadFactory;
 import com.hazelcast.internal.util.executor.SingleExecutorThreadFactory;
+import com.hazelcast.internal.util.executor.VirtualThreadFactory;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.NodeEngine;
@@ -58,6 +59,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EXECUTOR_
 import static com.hazelcast.internal.metrics.MetricTarget.MANAGEMENT_CENTER;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadPoolName;
+import static com.hazelcast.spi.properties.ClusterProperty.EXECUTOR_VIRTUAL_THREADS_ENABLED;
 import static java.lang.Thread.currentThread;
 
 @SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
@@ -68,6 +70,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
     private static final long INITIAL_DELAY = 1000;
     private static final long PERIOD = 100;
     private static final int BEGIN_INDEX = 3;
+    private static final String INTERNAL_EXECUTOR_PREFIX = "hz:";
     private static final long AWAIT_TIME = 3;
     private static final int POOL_MULTIPLIER = 2;
     private static final int QUEUE_MULTIPLIER = 100000;
@@ -79,6 +82,13 @@ public final class ExecutionServiceImpl implements ExecutionService {
     private final NodeEngine nodeEngine;
     private final TaskScheduler globalTaskScheduler;
     private final ExecutorService cachedExecutorService;
+    /**
+     * Backs the lazily created user-facing executors, i.e. the ones whose name doesn't start with
+     * {@value #INTERNAL_EXECUTOR_PREFIX}. It is the same as {@link #cachedExecutorService} unless
+     * {@link com.hazelcast.spi.properties.ClusterProperty#EXECUTOR_VIRTUAL_THREADS_ENABLED} is set,
+     * in which case it starts a new virtual thread per task.
+     */
+    private final ExecutorService blockingTaskExecutorService;
     private final LoggingScheduledExecutor scheduledExecutorService;
     private final CompletableFutureTask completableFutureTask;
     private final ConcurrentMap<String, ManagedExecutorService> executors = new ConcurrentHashMap<>();
@@ -90,7 +100,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
                 public ManagedExecutorService createNew(String name) {
                     ExecutorConfig config = nodeEngine.getConfig().findExecutorConfig(name);
                     int queueCapacity = config.getQueueCapacity() <= 0 ? Integer.MAX_VALUE : config.getQueueCapacity();
-                    return createExecutor(name, config.getPoolSize(), queueCapacity, ExecutorType.CACHED, null);
+                    return createBlockingTaskExecutor(name, config.getPoolSize(), queueCapacity);
                 }
             };
     private final ConstructorFunction<String, ManagedExecutorService> durableConstructor =
@@ -98,7 +108,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
                 @Override
                 public ManagedExecutorService createNew(String name) {
                     DurableExecutorConfig cfg = nodeEngine.getConfig().findDurableExecutorConfig(name);
-                    return createExecutor(name, cfg.getPoolSize(), Integer.MAX_VALUE, ExecutorType.CACHED, null);
+                    return createBlockingTaskExecutor(name, cfg.getPoolSize(), Integer.MAX_VALUE);
                 }
             };
     private final ConstructorFunction<String, ManagedExecutorService> scheduledDurableConstructor =
@@ -106,7 +116,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
                 @Override
                 public ManagedExecutorService createNew(String name) {
                     ScheduledExecutorConfig cfg = nodeEngine.getConfig().findScheduledExecutorConfig(name);
-                    return createExecutor(name, cfg.getPoolSize(), Integer.MAX_VALUE, ExecutorType.CACHED, null);
+                    return createBlockingTaskExecutor(name, cfg.getPoolSize(), Integer.MAX_VALUE);
                 }
             };
 
@@ -126,6 +136,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
                 logger.finest("Node is shutting down; discarding the task: " + r);
             }
         });
+        this.blockingTaskExecutorService = createBlockingTaskExecutorService(hzName, configClassLoader);
 
         ThreadFactory singleExecutorThreadFactory = new SingleExecutorThreadFactory(configClassLoader,
                 createThreadPoolName(hzName, "scheduled"));
@@ -143,6 +154,20 @@ public final class ExecutionServiceImpl implements ExecutionService {
                 scheduleDurableExecutors));
     }
 
+    private ExecutorService createBlockingTaskExecutorService(String hzName, ClassLoader configClassLoader) {
+        if (!nodeEngine.getProperties().getBoolean(EXECUTOR_VIRTUAL_THREADS_ENABLED)) {
+            return cachedExecutorService;
+        }
+        if (!VirtualThreadFactory.isSupported()) {
+            logger.warning(EXECUTOR_VIRTUAL_THREADS_ENABLED.getName() + " is set, but virtual threads are not "
+                    + "supported by this JVM. Executor tasks will run on platform threads.");
+            return cachedExecutorService;
+        }
+        logger.info("Executor tasks will run on virtual threads");
+        return new VirtualThreadFactory(createThreadPoolName(hzName, "virtual"), configClassLoader, nodeEngine)
+                .newThreadPerTaskExecutor();
+    }
+
     private void registerExecutors() {
         int coreSize = Math.max(RuntimeAvailableProcessors.get(), 2);
         // default executors
@@ -220,6 +245,13 @@ public final class ExecutionServiceImpl implements ExecutionService {
         return executor;
     }
 
+    private ManagedExecutorService createBlockingTaskExecutor(String name, int poolSize, int queueCapacity) {
+        // internal executors, like the query executor, may run CPU-bound work and stay on platform threads
+        ExecutorService executorService = name.startsWith(INTERNAL_EXECUTOR_PREFIX)
+                ? cachedExecutorService : blockingTaskExecutorService;
+        return new CachedExecutorServiceDelegate(name, executorService, poolSize, queueCapacity, nodeEngine);
+    }
+
     @Override
     public ManagedExecutorService getExecutor(String name) {
         return ConcurrencyUtil.getOrPutIfAbsent(executors, name, constructor);
@@ -322,10 +354,12 @@ public final class ExecutionServiceImpl implements ExecutionService {
         shutdown(scheduleDurableExecutors);
         scheduledExecutorService.shutdownNow();
         cachedExecutorService.shutdown();
+        blockingTaskExecutorService.shutdown();
 
         awaitAndForceShutdown(executors);
         awaitAndForceShutdown(scheduledExecutorService);
         awaitAndForceShutdown(cachedExecutorService);
+        awaitAndForceShutdown(blockingTaskExecutorService);
 
         executors.clear();
         durableExecutors.clear();
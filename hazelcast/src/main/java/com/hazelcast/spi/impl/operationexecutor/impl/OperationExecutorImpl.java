@@ -51,6 +51,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_COMPLETED_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_GENERIC_PRIORITY_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_GENERIC_QUEUE_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_GENERIC_STOLEN_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_GENERIC_THREAD_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_PARTITION_THREAD_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.OPERATION_METRIC_EXECUTOR_PRIORITY_QUEUE_SIZE;
@@ -90,9 +91,15 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * specific to a partition, e.g. a heart beat.
  * </li>
  * </ol>
+ * By default all generic operation threads take from a single shared queue. If
+ * {@link #GENERIC_WORK_STEALING} is enabled, every generic operation thread gets its own
+ * queue and steals from the queues of the other generic threads when idle, see
+ * {@link WorkStealingOperationQueue}.
  */
 @SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
 public final class OperationExecutorImpl implements OperationExecutor, StaticMetricsProvider {
+    static final HazelcastProperty GENERIC_WORK_STEALING
+            = new HazelcastProperty("hazelcast.operation.generic.workstealing", false);
     private static final HazelcastProperty IDLE_STRATEGY
             = new HazelcastProperty("hazelcast.operation.partitionthread.idlestrategy", "block");
     private static final int TERMINATION_TIMEOUT_SECONDS = 3;
@@ -103,8 +110,7 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
     private final PartitionOperationThread[] partitionThreads;
     private final OperationRunner[] partitionOperationRunners;
 
-    private final OperationQueue genericQueue
-            = new OperationQueueImpl(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+    private final OperationQueue genericQueue;
 
     // all operations that are not specific for a partition will be executed here, e.g. heartbeat or map.size()
     private final GenericOperationThread[] genericThreads;
@@ -140,6 +146,7 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         }
         this.priorityThreadCount = properties.getInteger(PRIORITY_GENERIC_OPERATION_THREAD_COUNT);
         this.genericOperationRunners = initGenericOperationRunners(properties, runnerFactory);
+        this.genericQueue = initGenericQueue(properties);
         this.genericThreads = initGenericThreads(hzName, nodeExtension, configClassLoader);
         this.engine = engine;
     }
@@ -167,6 +174,14 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         return operationRunners;
     }
 
+    private OperationQueue initGenericQueue(HazelcastProperties properties) {
+        int normalThreadCount = genericOperationRunners.length - priorityThreadCount;
+        if (properties.getBoolean(GENERIC_WORK_STEALING) && normalThreadCount > 0) {
+            return new WorkStealingOperationQueue(normalThreadCount);
+        }
+        return new OperationQueueImpl(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+    }
+
     private PartitionOperationThread[] initClassicPartitionThreads(HazelcastProperties properties, String hzName,
                                                                    NodeExtension nodeExtension, ClassLoader configClassLoader) {
 
@@ -250,9 +265,12 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
             String baseName = priority ? "priority-generic-operation" : "generic-operation";
             String threadName = createThreadPoolName(hzName, baseName) + threadId;
             OperationRunner operationRunner = genericOperationRunners[threadIndex];
+            OperationQueue queue = genericQueue instanceof WorkStealingOperationQueue workStealingQueue && !priority
+                    ? workStealingQueue.workerQueue(threadIndex - priorityThreadCount)
+                    : genericQueue;
 
             GenericOperationThread operationThread = new GenericOperationThread(
-                    threadName, threadIndex, genericQueue, logger, nodeExtension, operationRunner, priority, configClassLoader);
+                    threadName, threadIndex, queue, logger, nodeExtension, operationRunner, priority, configClassLoader);
 
             threads[threadIndex] = operationThread;
             operationRunner.setCurrentThread(operationThread);
@@ -365,6 +383,11 @@ public final class OperationExecutorImpl implements OperationExecutor, StaticMet
         return genericQueue.prioritySize();
     }
 
+    @Probe(name = OPERATION_METRIC_EXECUTOR_GENERIC_STOLEN_COUNT)
+    private long getGenericStolenCount() {
+        return genericQueue instanceof WorkStealingOperationQueue workStealingQueue ? workStealingQueue.stolenCount() : 0;
+    }
+
     @Probe(name = OPERATION_METRIC_EXECUTOR_COMPLETED_COUNT, level = MANDATORY)
     public long getExecutedOperationCount() {
         long result = adHocOperationRunner.executedOperationsCount();
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * An {@link OperationQueue} for the generic operation threads where every
+ * (non-priority) generic thread has its own queue and idle threads steal
+ * work from the queues of the other threads.
+ * <p>
+ * Producers append normal tasks to a randomly picked worker queue, so there
+ * is no single queue all producers and consumers contend on. Priority tasks
+ * are kept in a single shared queue since they are rare and need to be
+ * picked up by the priority generic threads as well.
+ * <p>
+ * A worker without tasks publishes itself as parked in its own slot,
+ * scans the queues once more and parks. After adding a task, a producer
+ * unparks the worker owning the queue if it is parked, otherwise the next
+ * parked worker so that it steals the task. When no worker is parked, the
+ * producer only reads the slots, so busy producers and consumers don't
+ * contend on a shared signal. A woken worker that finds its task already
+ * taken by another worker simply parks again.
+ * <p>
+ * The queue itself acts as the producer side; consumers take tasks through
+ * the view returned by {@link #workerQueue(int)}.
+ */
+public final class WorkStealingOperationQueue implements OperationQueue {
+
+    private final Queue<Object>[] normalQueues;
+    private final BlockingQueue<Object> priorityQueue = new LinkedBlockingQueue<>();
+    private final AtomicReferenceArray<Thread> parkedWorkers;
+    private final MwCounter stolenCount = newMwCounter();
+
+    @SuppressWarnings("unchecked")
+    public WorkStealingOperationQueue(int workerCount) {
+        checkPositive("workerCount", workerCount);
+        this.normalQueues = new Queue[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            normalQueues[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.parkedWorkers = new AtomicReferenceArray<>(workerCount);
+    }
+
+    /**
+     * Returns the queue of the worker with the given index. Taking from the
+     * returned queue prefers the tasks of that worker and steals tasks from
+     * other workers when there are none.
+     *
+     * @param workerIndex the index of the worker, between 0 and the worker count
+     * @return the queue for the worker
+     */
+    public OperationQueue workerQueue(int workerIndex) {
+        return new WorkerQueue(workerIndex);
+    }
+
+    /**
+     * Returns the number of tasks taken by a worker from the queue of
+     * another worker.
+     */
+    public long stolenCount() {
+        return stolenCount.get();
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        int workerIndex = ThreadLocalRandom.current().nextInt(normalQueues.length);
+        if (priority) {
+            priorityQueue.add(task);
+        } else {
+            normalQueues[workerIndex].add(task);
+        }
+        unparkWorker(workerIndex);
+    }
+
+    private void unparkWorker(int workerIndex) {
+        for (int i = 0; i < normalQueues.length; i++) {
+            int index = (workerIndex + i) % normalQueues.length;
+            Thread worker = parkedWorkers.get(index);
+            if (worker != null && parkedWorkers.compareAndSet(index, worker, null)) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        return take(0, priorityOnly);
+    }
+
+    @Override
+    public int normalSize() {
+        int size = 0;
+        for (Queue<Object> queue : normalQueues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    @Override
+    public Object poll() {
+        return poll(0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!priorityQueue.isEmpty()) {
+            return false;
+        }
+        for (Queue<Object> queue : normalQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Object take(int workerIndex, boolean priorityOnly) throws InterruptedException {
+        if (priorityOnly) {
+            return priorityQueue.take();
+        }
+
+        for (; ; ) {
+            Object task = poll(workerIndex);
+            if (task != null) {
+                return task;
+            }
+
+            // publish the worker as parked before the last scan, so a producer adding a
+            // task after the scan sees the worker and unparks it
+            parkedWorkers.set(workerIndex, Thread.currentThread());
+            task = poll(workerIndex);
+            if (task != null) {
+                parkedWorkers.set(workerIndex, null);
+                return task;
+            }
+            LockSupport.park(this);
+            parkedWorkers.set(workerIndex, null);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    Object poll(int workerIndex) {
+        Object task = priorityQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        task = normalQueues[workerIndex].poll();
+        if (task != null) {
+            return task;
+        }
+
+        for (int i = 1; i < normalQueues.length; i++) {
+            task = normalQueues[(workerIndex + i) % normalQueues.length].poll();
+            if (task != null) {
+                stolenCount.inc();
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The consumer side of the {@link WorkStealingOperationQueue} for a single
+     * worker. Adding tasks and querying the size delegates to the shared queue.
+     */
+    private final class WorkerQueue implements OperationQueue {
+
+        private final int workerIndex;
+
+        private WorkerQueue(int workerIndex) {
+            this.workerIndex = workerIndex;
+        }
+
+        @Override
+        public void add(Object task, boolean priority) {
+            WorkStealingOperationQueue.this.add(task, priority);
+        }
+
+        @Override
+        public Object take(boolean priorityOnly) throws InterruptedException {
+            return WorkStealingOperationQueue.this.take(workerIndex, priorityOnly);
+        }
+
+        @Override
+        public int normalSize() {
+            return WorkStealingOperationQueue.this.normalSize();
+        }
+
+        @Override
+        public int prioritySize() {
+            return WorkStealingOperationQueue.this.prioritySize();
+        }
+
+        @Override
+        public int size() {
+            return WorkStealingOperationQueue.this.size();
+        }
+
+        @Override
+        public Object poll() {
+            return WorkStealingOperationQueue.this.poll(workerIndex);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return WorkStealingOperationQueue.this.isEmpty();
+        }
+    }
+}
@@ -1301,6 +1301,20 @@ public final class ClusterProperty {
     public static final HazelcastProperty MAP_INVALIDATION_MESSAGE_BATCH_FREQUENCY_SECONDS
             = new HazelcastProperty("hazelcast.map.invalidation.batchfrequency.seconds", 10, SECONDS);
 
+    /**
+     * Defines whether the Near Cache invalidation event batches are compacted
+     * before they are sent.
+     * <p>
+     * A compacted batch contains only the invalidation with the latest sequence
+     * of each key, and the invalidations are grouped by partition, which reduces
+     * the size of the batches when the same keys are updated repeatedly. The
+     * sequences of the dropped invalidations are seen as missed by the receivers,
+     * so a partition with many dropped invalidations is marked stale on the
+     * receivers more often (see {@code hazelcast.invalidation.max.tolerated.miss.count}).
+     */
+    public static final HazelcastProperty MAP_INVALIDATION_MESSAGE_BATCH_COMPACTION_ENABLED
+            = new HazelcastProperty("hazelcast.map.invalidation.batch.compaction.enabled", false);
+
     /**
      * Setting this capacity is valid if you set {@code writeCoalescing} to {@code false}
      * (see {@link com.hazelcast.config.MapStoreConfig#setWriteCoalescing(boolean)}).
@@ -1523,6 +1537,15 @@ public final class ClusterProperty {
     public static final HazelcastProperty CACHE_INVALIDATION_MESSAGE_BATCH_FREQUENCY_SECONDS
             = new HazelcastProperty("hazelcast.cache.invalidation.batchfrequency.seconds", 10, SECONDS);
 
+    /**
+     * Defines whether the cache invalidation event batches are compacted before
+     * they are sent.
+     *
+     * @see #MAP_INVALIDATION_MESSAGE_BATCH_COMPACTION_ENABLED
+     */
+    public static final HazelcastProperty CACHE_INVALIDATION_MESSAGE_BATCH_COMPACTION_ENABLED
+            = new HazelcastProperty("hazelcast.cache.invalidation.batch.compaction.enabled", false);
+
     /**
      * Forces the JCache provider, which can have values client or server, to
      * force the provider type. If not provided, the provider will be client or
@@ -1557,6 +1580,48 @@ public final class ClusterProperty {
     public static final HazelcastProperty CLIENT_ENGINE_BLOCKING_THREAD_COUNT
             = new HazelcastProperty("hazelcast.clientengine.blocking.thread.count", -1);
 
+    /**
+     * Enables forwarding partition specific client requests directly from the
+     * thread that received them, when the partition is owned by another member.
+     * <p>
+     * By default, a partition specific request is queued on the partition thread
+     * of the receiving member even if another member owns the partition, and is
+     * forwarded from there. Clients that do not send their requests to the
+     * partition owners, e.g. clients in the single member routing mode behind a
+     * load balancer, make the receiving member spend a partition thread hop
+     * on each request. With this property enabled, the request is decoded and
+     * its operation is sent to the owner from the I/O thread. The keys and values
+     * stay serialized, and the result is sent back to the client as received from
+     * the owner.
+     * <p>
+     * Only the key based {@code IMap} get, put, set, remove, delete and
+     * containsKey requests are forwarded this way, because preparing their
+     * operations never blocks the I/O thread. Requests are always queued on the
+     * partition thread when the partition is owned locally, when security, user
+     * code namespaces or the thread-per-core mode are enabled.
+     */
+    public static final HazelcastProperty CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED
+            = new HazelcastProperty("hazelcast.clientengine.direct.forwarding.enabled", false);
+
+    /**
+     * Enables running the tasks of lazily created executors on virtual threads.
+     * These are the executors backing {@link com.hazelcast.core.IExecutorService},
+     * {@link com.hazelcast.durableexecutor.DurableExecutorService} and
+     * {@link com.hazelcast.scheduledexecutor.IScheduledExecutorService} tasks, as
+     * well as internal executors running blocking work such as
+     * {@link com.hazelcast.map.MapLoader} and offloaded
+     * {@link com.hazelcast.map.MapStore} calls.
+     * <p>
+     * The configured pool size still limits the number of concurrently running
+     * tasks per executor, but a blocked task no longer occupies a platform
+     * thread, so large pool sizes can be used for I/O bound tasks.
+     * <p>
+     * Virtual threads require JDK 21 or newer. On older JDKs, this property is
+     * ignored and a warning is logged.
+     */
+    public static final HazelcastProperty EXECUTOR_VIRTUAL_THREADS_ENABLED
+            = new HazelcastProperty("hazelcast.executor.virtual.threads.enabled", false);
+
     /**
      * Number of threads for the {@link com.hazelcast.spi.impl.eventservice.impl.EventServiceImpl}
      * executor.
@@ -1608,6 +1673,18 @@ public final class ClusterProperty {
     public static final HazelcastProperty EVENT_SYNC_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.event.sync.timeout.millis", 5000, MILLISECONDS);
 
+    /**
+     * The maximum number of listener registrations on the same member which
+     * are served by a single remote event packet.
+     * When an event is published to several listeners registered on the same
+     * remote member, the event is serialized and sent only once together
+     * with the IDs of all targeted registrations, instead of sending one
+     * packet per registration. Setting this value to {@code 1} or less
+     * disables batching.
+     */
+    public static final HazelcastProperty EVENT_BATCH_MAX_SIZE
+            = new HazelcastProperty("hazelcast.event.batch.max.size", 100);
+
     /**
      * Enable or disable the sending of phone home data to Hazelcast’s phone home
      * server.
@@ -1861,6 +1938,25 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * The interval in milliseconds at which the cooperative worker threads
+     * compare the time they spent in tasklets that made progress. A worker
+     * that was busy for at least half of the interval hands one of its
+     * tasklets over to the least busy worker, if that reduces the imbalance
+     * between them. This helps when processors with skewed load happen to be
+     * assigned to the same worker thread.
+     * <p>
+     * A tasklet is always executed by a single thread at a time, but with
+     * rebalancing enabled it can be executed by different threads over its
+     * lifetime.
+     * <p>
+     * The default value is {@code 0}, which disables the rebalancing.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.jet.cooperative.rebalance.interval.millis", 0, MILLISECONDS);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -1871,6 +1967,22 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * The directory where batch processors write their state to temporary
+     * files when they reach the {@linkplain
+     * com.hazelcast.jet.config.JobConfig#setMaxProcessorAccumulatedRecords
+     * maximum number of accumulated records}, instead of failing the job.
+     * Only processors which support it spill their state: the sorting
+     * processor and the grouping processor of an aggregate operation with a
+     * combine function.
+     * <p>
+     * The default value is {@code null}, which disables spilling.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.spill.directory");
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
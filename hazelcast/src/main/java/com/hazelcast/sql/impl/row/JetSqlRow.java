@@ -56,8 +56,12 @@ public class JetSqlRow implements IdentifiedDataSerializable {
     }
 
     public Object get(int index) {
-        values[index] = ss.toObject(values[index]);
-        return values[index];
+        Object value = values[index];
+        if (value instanceof Data) {
+            value = ss.toObject(value);
+            values[index] = value;
+        }
+        return value;
     }
 
     public Data getSerialized(int index) {
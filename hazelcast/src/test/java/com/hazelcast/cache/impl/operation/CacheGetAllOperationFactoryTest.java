@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cache.impl.operation;
+
+import com.hazelcast.cache.ICache;
+import com.hazelcast.cache.impl.CacheProxy;
+import com.hazelcast.cache.impl.ICacheService;
+import com.hazelcast.config.CacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionAwareOperationFactory;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.cache.CacheTestSupport.createServerCachingProvider;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CacheGetAllOperationFactoryTest extends HazelcastTestSupport {
+
+    private static final int KEY_COUNT = 1000;
+
+    private HazelcastInstance instance;
+    private ICache<Integer, Integer> cache;
+    private Map<Integer, Integer> expected;
+
+    @Before
+    public void setUp() {
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances();
+        instance = instances[0];
+        CacheManager cacheManager = createServerCachingProvider(instance).getCacheManager();
+        cache = cacheManager.createCache(randomName(), new CacheConfig<Integer, Integer>()).unwrap(ICache.class);
+
+        expected = new HashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            cache.put(i, i * 10);
+            expected.put(i, i * 10);
+        }
+    }
+
+    @Test
+    public void testGetAll_whenKeysOnManyPartitions() {
+        Map<Integer, Integer> result = cache.getAll(expected.keySet());
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testGetAll_whenSomeKeysMissing() {
+        Set<Integer> keys = new HashSet<>(expected.keySet());
+        keys.add(-1);
+        keys.add(KEY_COUNT);
+
+        Map<Integer, Integer> result = cache.getAll(keys);
+
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testCreatePartitionOperation_onRunner() {
+        CacheGetAllOperationFactory factory = newFactory();
+        NodeEngine nodeEngine = getNodeEngineImpl(instance);
+        int[] partitions = allPartitions();
+
+        PartitionAwareOperationFactory runnerFactory = factory.createFactoryOnRunner(nodeEngine, partitions);
+
+        assertEquals(expected, invokeOnAllPartitions(runnerFactory));
+    }
+
+    @Test
+    public void testCreatePartitionOperation_onCaller_whenPartitionIsRetried() {
+        // the factory sent to the runner is not the one the caller retries
+        // failed partitions with, so this one has not grouped its keys
+        CacheGetAllOperationFactory factory = newFactory();
+
+        assertEquals(expected, invokeOnAllPartitions(factory));
+    }
+
+    private CacheGetAllOperationFactory newFactory() {
+        SerializationService serializationService = getSerializationService(instance);
+        Set<Data> keys = new HashSet<>();
+        for (Integer key : expected.keySet()) {
+            keys.add(serializationService.toData(key));
+        }
+        String name = ((CacheProxy<Integer, Integer>) cache).getPrefixedName();
+        return new CacheGetAllOperationFactory(name, keys, null);
+    }
+
+    private int[] allPartitions() {
+        int[] partitions = new int[getPartitionService(instance).getPartitionCount()];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = i;
+        }
+        return partitions;
+    }
+
+    private Map<Integer, Integer> invokeOnAllPartitions(PartitionAwareOperationFactory factory) {
+        OperationService operationService = getOperationService(instance);
+        SerializationService serializationService = getSerializationService(instance);
+        Map<Integer, Integer> result = new HashMap<>();
+        for (int partitionId : allPartitions()) {
+            MapEntries entries = serializationService.toObject(operationService
+                    .invokeOnPartition(ICacheService.SERVICE_NAME, factory.createPartitionOperation(partitionId), partitionId)
+                    .join());
+            for (int i = 0; i < entries.size(); i++) {
+                int key = serializationService.toObject(entries.getKey(i));
+                assertEquals(partitionId, getPartitionService(instance).getPartitionId(key));
+                assertNull(result.put(key, serializationService.toObject(entries.getValue(i))));
+            }
+        }
+        return result;
+    }
+}
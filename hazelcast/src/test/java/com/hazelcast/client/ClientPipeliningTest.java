@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientPipeliningTest extends HazelcastTestSupport {
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+
+    private HazelcastInstance member;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        member = hazelcastFactory.newHazelcastInstance();
+        client = hazelcastFactory.newHazelcastClient();
+    }
+
+    @After
+    public void tearDown() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenMember() {
+        new ClientPipelining<String>(member, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenNegativeDepth() {
+        new ClientPipelining<String>(client, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenNegativeFlushCount() {
+        new ClientPipelining<String>(client, 1, 0, 1, MILLISECONDS);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() throws InterruptedException {
+        new ClientPipelining<String>(client, 1).add(null);
+    }
+
+    @Test
+    public void testResults_whenDepthReachedBeforeFlushCount() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        // the Pipelining has to flush before it blocks on the depth
+        ClientPipelining<String> pipelining = new ClientPipelining<>(client, 10, 1000, 10, MINUTES);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int key = i;
+            pipelining.add(() -> map.getAsync(key));
+            expected.add("value-" + i);
+        }
+
+        assertEquals(expected, pipelining.results());
+    }
+
+    @Test
+    public void testAdd_whenNotFlushed_thenFlushedAfterMaxFlushDelay() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        map.put(1, "value");
+
+        ClientPipelining<String> pipelining = new ClientPipelining<>(client, 10, 1000, 10, MILLISECONDS);
+        CompletionStage<String> future = pipelining.add(() -> map.getAsync(1));
+
+        assertCompletesEventually(future.toCompletableFuture());
+        assertEquals("value", future.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testAdd_whenMaxFlushDelayZero_thenNotDeferred() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+
+        ClientPipelining<String> pipelining = new ClientPipelining<>(client, 10, 1000, 0, MILLISECONDS);
+        CompletionStage<String> future = pipelining.add(() -> map.putAsync(1, "value"));
+
+        assertCompletesEventually(future.toCompletableFuture());
+        assertEquals("value", map.get(1));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletionStage;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the deferred writes of the {@link ClientPipelining} over real
+ * connections, the connections of the test client write immediately.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientPipeliningWithRealNetworkTest extends ClientTestSupport {
+
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        String clusterName = randomString();
+        Config config = smallInstanceConfig().setClusterName(clusterName);
+        Hazelcast.newHazelcastInstance(config);
+        // the heartbeats and statistics would write the deferred requests of the connection
+        ClientConfig clientConfig = new ClientConfig().setClusterName(clusterName)
+                .setProperty(ClientProperty.HEARTBEAT_INTERVAL.getName(), String.valueOf(MINUTES.toMillis(5)));
+        clientConfig.getMetricsConfig().setEnabled(false);
+        client = HazelcastClient.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void cleanUp() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testAdd_whenSupplierMakesSyncCalls_thenNotBlockedUntilFlush() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        map.put(1, "value");
+
+        // neither the flush count nor the max flush delay is reached by the requests
+        ClientPipelining<String> pipelining = new ClientPipelining<>(client, 10, 1000, 10, MINUTES);
+        CompletionStage<String> future = pipelining.add(() -> {
+            IMap<Integer, String> otherMap = client.getMap(randomMapName());
+            otherMap.put(1, map.get(1));
+            return otherMap.getAsync(1);
+        });
+
+        assertEquals("value", future.toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+
+    @Test
+    public void testGet_whenNotFlushed_thenFlushedBeforeWaiting() throws Exception {
+        IMap<Integer, String> map = client.getMap(randomMapName());
+        map.put(1, "value");
+
+        ClientPipelining<String> pipelining = new ClientPipelining<>(client, 10, 1000, 10, MINUTES);
+        CompletionStage<String> future = pipelining.add(() -> map.getAsync(1));
+
+        // waiting for the response of a deferred request writes it
+        assertEquals("value", future.toCompletableFuture().get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, SECONDS));
+    }
+}
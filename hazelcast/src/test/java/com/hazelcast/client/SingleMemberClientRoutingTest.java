@@ -20,9 +20,11 @@ package com.hazelcast.client;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.impl.connection.tcp.RoutingMode;
 import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
-import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
 import org.junit.After;
@@ -30,21 +32,39 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.junit.runners.Parameterized.UseParametersRunnerFactory;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.hazelcast.spi.properties.ClusterProperty.CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED;
 import static com.hazelcast.test.HazelcastTestSupport.randomString;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 
 /**
  * A test that verifies that a SINGLE_MEMBER routing client, can send request to a wrong node,
  * but still can get responses to its requests.
  */
-@RunWith(HazelcastParallelClassRunner.class)
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class SingleMemberClientRoutingTest {
 
+    @Parameter
+    public boolean directForwarding;
+
+    @Parameters(name = "directForwarding:{0}")
+    public static Collection<Object[]> parameters() {
+        return asList(new Object[][]{
+                {false},
+                {true},
+        });
+    }
+
     private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
 
     private HazelcastInstance client;
@@ -57,8 +77,10 @@ public class SingleMemberClientRoutingTest {
 
     @Before
     public void setup() {
-        server1 = hazelcastFactory.newHazelcastInstance();
-        hazelcastFactory.newHazelcastInstance();
+        Config config = new Config()
+                .setProperty(CLIENT_ENGINE_DIRECT_FORWARDING_ENABLED.getName(), String.valueOf(directForwarding));
+        server1 = hazelcastFactory.newHazelcastInstance(config);
+        hazelcastFactory.newHazelcastInstance(config);
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.getNetworkConfig().getClusterRoutingConfig().setRoutingMode(RoutingMode.SINGLE_MEMBER);
         client = hazelcastFactory.newHazelcastClient(clientConfig);
@@ -87,4 +109,33 @@ public class SingleMemberClientRoutingTest {
             assertEquals(expectedValue, actualValue);
         }
     }
+
+    @Test
+    public void testPutAndGet() {
+        IMap<Integer, Integer> map = client.getMap(randomString());
+        for (int k = 0; k < 1000; k++) {
+            map.put(k, k);
+        }
+
+        Map<Integer, Integer> serverMap = server1.getMap(map.getName());
+        for (int k = 0; k < 1000; k++) {
+            assertEquals(k, (int) serverMap.get(k));
+            assertEquals(k, (int) map.get(k));
+        }
+    }
+
+    @Test
+    public void testRequestsNotForwardedDirectly() {
+        // putIfAbsent and replace are always run on the partition thread
+        IMap<Integer, Integer> map = client.getMap(randomString());
+        for (int k = 0; k < 1000; k++) {
+            map.putIfAbsent(k, k);
+            map.replace(k, k + 1);
+        }
+
+        Map<Integer, Integer> serverMap = server1.getMap(map.getName());
+        for (int k = 0; k < 1000; k++) {
+            assertEquals(k + 1, (int) serverMap.get(k));
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec.builtin;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ListMultiFrameCodecTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testDecodeLazily() {
+        List<Data> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(serializationService.toData("item-" + i));
+        }
+
+        ClientMessage message = ClientMessage.createForEncode();
+        ListMultiFrameCodec.encode(message, items, DataCodec::encode);
+        StringCodec.encode(message, "trailer");
+
+        ClientMessage.ForwardFrameIterator frames = message.frameIterator();
+        List<Data> decoded = new ArrayList<>();
+        Iterator<Data> iterator = ListMultiFrameCodec.decodeLazily(frames, DataCodec::decode);
+        iterator.forEachRemaining(decoded::add);
+
+        assertEquals(items, decoded);
+        assertThrows(NoSuchElementException.class, iterator::next);
+        // the end frame of the list has been consumed
+        assertEquals("trailer", StringCodec.decode(frames));
+    }
+
+    @Test
+    public void testDecodeLazily_whenEmpty() {
+        ClientMessage message = ClientMessage.createForEncode();
+        ListMultiFrameCodec.encode(message, emptyList(), DataCodec::encode);
+        StringCodec.encode(message, "trailer");
+
+        ClientMessage.ForwardFrameIterator frames = message.frameIterator();
+        Iterator<Data> iterator = ListMultiFrameCodec.decodeLazily(frames, DataCodec::decode);
+
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+        assertEquals("trailer", StringCodec.decode(frames));
+    }
+}
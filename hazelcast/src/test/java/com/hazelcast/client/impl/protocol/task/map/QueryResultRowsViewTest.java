@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.map;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.ContinuousQueryPublisherCreateCodec;
+import com.hazelcast.client.impl.protocol.codec.ContinuousQueryPublisherCreateWithValueCodec;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.util.IterationType;
+import com.hazelcast.map.impl.query.QueryResult;
+import com.hazelcast.map.impl.query.QueryResultRow;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueryResultRowsViewTest {
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testView_whenNoResults() {
+        QueryResultRowsView<Data> view = new QueryResultRowsView<>(emptyList(), QueryResultRow::getKey);
+
+        assertEquals(0, view.size());
+        assertTrue(view.isEmpty());
+        assertFalse(view.iterator().hasNext());
+    }
+
+    @Test
+    public void testView_iteratesRowsOfAllResultsInOrder() {
+        List<QueryResultRow> rows = newRows(10);
+        List<QueryResult> results = asList(newResult(rows.subList(0, 4)), newResult(emptyList()),
+                newResult(rows.subList(4, 10)));
+
+        QueryResultRowsView<Data> view = new QueryResultRowsView<>(results, QueryResultRow::getKey);
+
+        assertEquals(10, view.size());
+        List<Data> keys = new ArrayList<>();
+        view.forEach(keys::add);
+        assertEquals(10, keys.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(rows.get(i).getKey(), keys.get(i));
+        }
+    }
+
+    @Test
+    public void testEncodeKeys_thenDecodeLazily() {
+        List<QueryResultRow> rows = newRows(10);
+        List<QueryResult> results = asList(newResult(rows.subList(0, 5)), newResult(rows.subList(5, 10)));
+
+        ClientMessage message = ContinuousQueryPublisherCreateCodec.encodeResponse(
+                new QueryResultRowsView<>(results, QueryResultRow::getKey));
+        Iterator<Data> decoded = ContinuousQueryPublisherCreateCodec.decodeResponseLazily(message);
+
+        for (QueryResultRow row : rows) {
+            assertTrue(decoded.hasNext());
+            assertEquals(row.getKey(), decoded.next());
+        }
+        assertFalse(decoded.hasNext());
+    }
+
+    @Test
+    public void testEncodeEntries_thenDecodeLazily() {
+        List<QueryResultRow> rows = newRows(10);
+        List<QueryResult> results = asList(newResult(rows.subList(0, 5)), newResult(rows.subList(5, 10)));
+
+        ClientMessage message = ContinuousQueryPublisherCreateWithValueCodec.encodeResponse(
+                new QueryResultRowsView<>(results, row -> row));
+        Iterator<Map.Entry<Data, Data>> decoded = ContinuousQueryPublisherCreateWithValueCodec.decodeResponseLazily(message);
+
+        for (QueryResultRow row : rows) {
+            assertTrue(decoded.hasNext());
+            Map.Entry<Data, Data> entry = decoded.next();
+            assertEquals(row.getKey(), entry.getKey());
+            assertEquals(row.getValue(), entry.getValue());
+        }
+        assertFalse(decoded.hasNext());
+    }
+
+    private List<QueryResultRow> newRows(int count) {
+        List<QueryResultRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new QueryResultRow(serializationService.toData(i), serializationService.toData("value-" + i)));
+        }
+        return rows;
+    }
+
+    private QueryResult newResult(List<QueryResultRow> rows) {
+        QueryResult result = new QueryResult(IterationType.ENTRY, null, serializationService, Long.MAX_VALUE, false);
+        rows.forEach(result::addRow);
+        return result;
+    }
+}
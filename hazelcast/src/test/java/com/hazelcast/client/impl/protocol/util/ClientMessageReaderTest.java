@@ -30,7 +30,9 @@ import java.nio.ByteBuffer;
 import java.util.Random;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -197,6 +199,33 @@ public class ClientMessageReaderTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testReadEmptyFrames_thenContentShared() {
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(createFrameWithRandomBytes(10));
+        message.add(ClientMessage.BEGIN_FRAME.copy());
+        message.add(ClientMessage.NULL_FRAME.copy());
+        message.add(ClientMessage.END_FRAME.copy());
+
+        ByteBuffer buffer = writeToBuffer(message);
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+
+        ClientMessage.ForwardFrameIterator iterator = reader.getClientMessage().frameIterator();
+        iterator.next();
+        ClientMessage.Frame beginFrame = iterator.next();
+        ClientMessage.Frame nullFrame = iterator.next();
+        ClientMessage.Frame endFrame = iterator.next();
+        assertTrue(beginFrame.isBeginFrame());
+        assertTrue(nullFrame.isNullFrame());
+        assertTrue(endFrame.isEndFrame());
+        assertEquals(0, beginFrame.content.length);
+        assertSame(beginFrame.content, nullFrame.content);
+        assertSame(beginFrame.content, endFrame.content);
+        assertFalse(iterator.hasNext());
+    }
+
     private ClientMessage.Frame createFrameWithRandomBytes(int contentLength) {
         byte[] content = new byte[contentLength];
         random.nextBytes(content);
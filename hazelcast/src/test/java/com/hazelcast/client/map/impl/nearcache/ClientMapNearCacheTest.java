@@ -20,6 +20,7 @@ import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapAddNearCacheInvalidationListenerCodec;
 import com.hazelcast.client.impl.spi.EventHandler;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.client.test.TestHazelcastFactory;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.EvictionPolicy;
@@ -29,6 +30,8 @@ import com.hazelcast.config.MapStoreConfig;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.internal.monitor.impl.NearCacheStatsImpl;
 import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -63,6 +66,7 @@ import java.util.stream.IntStream;
 import static com.hazelcast.internal.nearcache.impl.NearCacheTestUtils.getBaseConfig;
 import static com.hazelcast.test.Accessors.getSerializationService;
 import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -200,6 +204,92 @@ public class ClientMapNearCacheTest extends NearCacheTestSupport {
         assertThat(loadCount.get()).isOne();
     }
 
+    @Test
+    public void testGet_whenReadCoalescingEnabled_thenConcurrentMissesShareRemoteRead() throws Exception {
+        String mapName = randomMapName();
+        Config config = newConfig();
+
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadLatch = new CountDownLatch(1);
+        config.getMapConfig(mapName).getMapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(new MapStoreAdapter<Integer, Integer>() {
+                    @Override
+                    public Integer load(Integer key) {
+                        loadCount.incrementAndGet();
+                        assertOpenEventually(loadLatch);
+                        return key;
+                    }
+                });
+        hazelcastFactory.newHazelcastInstance(config);
+
+        ClientConfig clientConfig = newClientConfig()
+                .setProperty(NearCache.PROP_READ_COALESCING_ENABLED, "true")
+                .addNearCacheConfig(newInvalidationEnabledNearCacheConfig().setName(mapName));
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(clientConfig);
+        IMap<Integer, Integer> map = client.getMap(mapName);
+
+        int readerCount = 8;
+        Collection<Future<Integer>> futures = new HashSet<>();
+        for (int i = 0; i < readerCount; i++) {
+            futures.add(i % 2 == 0 ? spawn(() -> map.get(1)) : map.getAsync(1).toCompletableFuture());
+        }
+        assertTrueEventually(() -> assertEquals(readerCount - 1, getCoalescedMisses(map)));
+        loadLatch.countDown();
+
+        for (Future<Integer> future : futures) {
+            assertEquals(Integer.valueOf(1), future.get());
+        }
+        assertEquals(1, loadCount.get());
+
+        // the misses after an invalidation don't wait for the value read before it
+        map.put(1, 23);
+        assertEquals(Integer.valueOf(23), map.get(1));
+        assertEquals(readerCount - 1, getCoalescedMisses(map));
+    }
+
+    @Test
+    public void testGet_whenReadCoalescingEnabled_thenWaitingMissTimesOut() throws Exception {
+        String mapName = randomMapName();
+        Config config = newConfig();
+
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadLatch = new CountDownLatch(1);
+        config.getMapConfig(mapName).getMapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(new MapStoreAdapter<Integer, Integer>() {
+                    @Override
+                    public Integer load(Integer key) {
+                        loadCount.incrementAndGet();
+                        assertOpenEventually(loadLatch);
+                        return key;
+                    }
+                });
+        hazelcastFactory.newHazelcastInstance(config);
+
+        ClientConfig clientConfig = newClientConfig()
+                .setProperty(NearCache.PROP_READ_COALESCING_ENABLED, "true")
+                .setProperty(ClientProperty.INVOCATION_TIMEOUT_SECONDS.getName(), "2")
+                .addNearCacheConfig(newInvalidationEnabledNearCacheConfig().setName(mapName));
+        HazelcastInstance client = hazelcastFactory.newHazelcastClient(clientConfig);
+        IMap<Integer, Integer> map = client.getMap(mapName);
+
+        Future<Integer> remoteRead = spawn(() -> map.get(1));
+        assertTrueEventually(() -> assertEquals(1, loadCount.get()));
+
+        assertThatThrownBy(() -> map.get(1)).isInstanceOf(OperationTimeoutException.class);
+        assertThatThrownBy(() -> map.getAsync(1).toCompletableFuture().join())
+                .hasCauseInstanceOf(OperationTimeoutException.class);
+
+        loadLatch.countDown();
+        assertEquals(Integer.valueOf(1), remoteRead.get());
+        assertEquals(1, loadCount.get());
+    }
+
+    private long getCoalescedMisses(IMap<?, ?> map) {
+        return ((NearCacheStatsImpl) getNearCacheStats(map)).getCoalescedMisses();
+    }
+
     @Test
     public void testAfterRemoveNearCacheIsInvalidated() {
         int mapSize = 1000;
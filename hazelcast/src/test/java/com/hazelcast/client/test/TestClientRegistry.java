@@ -257,6 +257,15 @@ class TestClientRegistry {
             return true;
         }
 
+        @Override
+        public boolean writeDeferred(OutboundFrame frame) {
+            return write(frame);
+        }
+
+        @Override
+        public void flush() {
+        }
+
         @Override
         public Address getInitAddress() {
             return remoteAddress;
@@ -20,7 +20,9 @@ import com.hazelcast.config.Config;
 import com.hazelcast.config.ExecutorConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IExecutorService;
+import com.hazelcast.internal.util.executor.VirtualThreadFactory;
 import com.hazelcast.partition.PartitionAware;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.TestHazelcastInstanceFactory;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -30,17 +32,23 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.hazelcast.spi.properties.ClusterProperty.EXECUTOR_VIRTUAL_THREADS_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -106,6 +114,39 @@ public class SpecificSetupTest extends ExecutorServiceTestSupport {
         assertTrue(result);
     }
 
+    @Test
+    public void virtualThreadsEnabled_blockingTasksRunConcurrently() throws Exception {
+        int taskCount = 100;
+        Config config = smallInstanceConfig()
+                .setProperty(EXECUTOR_VIRTUAL_THREADS_ENABLED.getName(), "true")
+                .addExecutorConfig(new ExecutorConfig("virtual", taskCount));
+        IExecutorService executor = createHazelcastInstance(config).getExecutorService("virtual");
+
+        List<Future<Boolean>> futures = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(executor.submit(new SleepingTask(1)));
+        }
+        for (Future<Boolean> future : futures) {
+            assertTrue(future.get(1, MINUTES));
+        }
+    }
+
+    @Test
+    public void virtualThreadsEnabled_internalExecutorsRunOnPlatformThreads() throws Exception {
+        assumeTrue(VirtualThreadFactory.isSupported());
+        Config config = smallInstanceConfig()
+                .setProperty(EXECUTOR_VIRTUAL_THREADS_ENABLED.getName(), "true");
+        ExecutionService executionService = getNodeEngineImpl(createHazelcastInstance(config)).getExecutionService();
+
+        String internalThread = executionService.getExecutor("hz:test-internal")
+                .submit(() -> Thread.currentThread().getName()).get(1, MINUTES);
+        String userThread = executionService.getExecutor("test-user")
+                .submit(() -> Thread.currentThread().getName()).get(1, MINUTES);
+
+        assertThat(internalThread).doesNotContain(".virtual.");
+        assertThat(userThread).contains(".virtual.");
+    }
+
     private static class SleepLatchRunnable implements Runnable, Serializable {
 
         static CountDownLatch startLatch;
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BuddyMemoryAllocatorTest extends AbstractUnsafeDependentMemoryAccessorTest {
+
+    private static final long PAGE_SIZE = 256;
+    private static final long MIN_BLOCK_SIZE = 16;
+    private static final long CAPACITY = 4 * PAGE_SIZE;
+
+    private BuddyMemoryManager memoryManager;
+    private BuddyMemoryAllocator allocator;
+    private MemoryAccessor mem;
+
+    @Before
+    public void setUp() {
+        memoryManager = new BuddyMemoryManager(CAPACITY, PAGE_SIZE, MIN_BLOCK_SIZE);
+        allocator = memoryManager.getAllocator();
+        mem = memoryManager.getAccessor();
+    }
+
+    @After
+    public void tearDown() {
+        memoryManager.dispose();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenMinBlockSizeTooSmall() {
+        new BuddyMemoryManager(CAPACITY, PAGE_SIZE, 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_whenPageSizeNotPowerOfTwo() {
+        new BuddyMemoryManager(CAPACITY, 100, MIN_BLOCK_SIZE);
+    }
+
+    @Test
+    public void testAllocate_thenBlockRoundedUpAndZeroed() {
+        long address = allocator.allocate(20);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(0, mem.getByte(address + i));
+        }
+
+        assertEquals(32, allocator.getUsedMemory());
+        assertEquals(PAGE_SIZE, allocator.getCommittedMemory());
+        assertEquals(PAGE_SIZE - 32, allocator.getFreeMemory());
+    }
+
+    @Test
+    public void testAllocate_whenPageFull_thenNewPageAllocated() {
+        List<Long> addresses = allocateAndFill(2 * PAGE_SIZE / MIN_BLOCK_SIZE, MIN_BLOCK_SIZE);
+
+        assertEquals(2 * PAGE_SIZE, allocator.getCommittedMemory());
+        assertEquals(2 * PAGE_SIZE, allocator.getUsedMemory());
+        assertEquals(0, allocator.getFreeMemory());
+        assertFilled(addresses, MIN_BLOCK_SIZE);
+    }
+
+    @Test
+    public void testAllocate_whenCapacityExceeded() {
+        allocator.allocate(CAPACITY);
+
+        assertThrows(NativeOutOfMemoryError.class, () -> allocator.allocate(MIN_BLOCK_SIZE));
+    }
+
+    @Test
+    public void testAllocate_whenLargerThanPage_thenAllocatedFromSystem() {
+        long address = allocator.allocate(PAGE_SIZE + 1);
+        mem.putByte(address + PAGE_SIZE, (byte) 1);
+
+        assertEquals(PAGE_SIZE + 1, allocator.getUsedMemory());
+        assertEquals(PAGE_SIZE + 1, allocator.getCommittedMemory());
+
+        allocator.free(address, PAGE_SIZE + 1);
+
+        assertEquals(0, allocator.getUsedMemory());
+        assertEquals(0, allocator.getCommittedMemory());
+    }
+
+    @Test
+    public void testFree_thenBuddiesMerged() {
+        List<Long> addresses = allocateAndFill(PAGE_SIZE / MIN_BLOCK_SIZE, MIN_BLOCK_SIZE);
+        for (long address : addresses) {
+            allocator.free(address, MIN_BLOCK_SIZE);
+        }
+
+        assertEquals(0, allocator.getUsedMemory());
+        assertEquals(PAGE_SIZE, allocator.getFreeMemory());
+        assertEquals(PAGE_SIZE, allocator.getLargestFreeBlockSize());
+        assertEquals(0, allocator.getFragmentation(), 0);
+    }
+
+    @Test
+    public void testFree_whenAnotherPageFree_thenPageReleased() {
+        List<Long> addresses = allocateAndFill(2 * PAGE_SIZE / MIN_BLOCK_SIZE, MIN_BLOCK_SIZE);
+        for (long address : addresses) {
+            allocator.free(address, MIN_BLOCK_SIZE);
+        }
+
+        assertEquals(PAGE_SIZE, allocator.getCommittedMemory());
+        assertEquals(PAGE_SIZE, allocator.getFreeMemory());
+    }
+
+    @Test
+    public void testFree_whenAlreadyFree() {
+        long address1 = allocator.allocate(MIN_BLOCK_SIZE);
+        allocator.allocate(MIN_BLOCK_SIZE);
+        allocator.free(address1, MIN_BLOCK_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> allocator.free(address1, MIN_BLOCK_SIZE));
+    }
+
+    @Test
+    public void testFree_whenNotAllocated() {
+        assertThrows(IllegalArgumentException.class, () -> allocator.free(MIN_BLOCK_SIZE, MIN_BLOCK_SIZE));
+    }
+
+    @Test
+    public void testFragmentation() {
+        List<Long> addresses = allocateAndFill(PAGE_SIZE / MIN_BLOCK_SIZE, MIN_BLOCK_SIZE);
+        // the freed blocks are not buddies of each other
+        allocator.free(addresses.get(0), MIN_BLOCK_SIZE);
+        allocator.free(addresses.get(2), MIN_BLOCK_SIZE);
+
+        assertEquals(2 * MIN_BLOCK_SIZE, allocator.getFreeMemory());
+        assertEquals(MIN_BLOCK_SIZE, allocator.getLargestFreeBlockSize());
+        assertEquals(0.5, allocator.getFragmentation(), 0);
+    }
+
+    @Test
+    public void testReallocate_whenFitsBlock_thenSameAddressAndZeroedTail() {
+        long address = allocator.allocate(20);
+        mem.setMemory(address, 20, (byte) 7);
+        // leftover of the previous use of the block
+        mem.putByte(address + 25, (byte) 7);
+
+        long newAddress = allocator.reallocate(address, 20, 30);
+
+        assertEquals(address, newAddress);
+        assertEquals(7, mem.getByte(newAddress + 19));
+        assertEquals(0, mem.getByte(newAddress + 25));
+    }
+
+    @Test
+    public void testReallocate_whenLarger_thenContentCopied() {
+        long address = allocator.allocate(MIN_BLOCK_SIZE);
+        mem.setMemory(address, MIN_BLOCK_SIZE, (byte) 7);
+
+        long newAddress = allocator.reallocate(address, MIN_BLOCK_SIZE, 4 * MIN_BLOCK_SIZE);
+
+        assertNotEquals(address, newAddress);
+        assertEquals(7, mem.getByte(newAddress + MIN_BLOCK_SIZE - 1));
+        assertEquals(0, mem.getByte(newAddress + MIN_BLOCK_SIZE));
+        assertEquals(4 * MIN_BLOCK_SIZE, allocator.getUsedMemory());
+    }
+
+    @Test
+    public void testRandomAllocations_thenNoOverlapAndAllMemoryFreed() {
+        Random random = new Random(42);
+        List<long[]> blocks = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            if (blocks.isEmpty() || random.nextBoolean()) {
+                long size = 1 + random.nextInt((int) PAGE_SIZE);
+                try {
+                    long address = allocator.allocate(size);
+                    mem.setMemory(address, size, (byte) i);
+                    blocks.add(new long[]{address, size, i});
+                } catch (NativeOutOfMemoryError expected) {
+                    continue;
+                }
+            } else {
+                long[] block = blocks.remove(random.nextInt(blocks.size()));
+                assertBlock(block);
+                allocator.free(block[0], block[1]);
+            }
+        }
+        for (long[] block : blocks) {
+            assertBlock(block);
+            allocator.free(block[0], block[1]);
+        }
+
+        assertEquals(0, allocator.getUsedMemory());
+        assertEquals(PAGE_SIZE, allocator.getCommittedMemory());
+        assertEquals(PAGE_SIZE, allocator.getFreeMemory());
+    }
+
+    private List<Long> allocateAndFill(long count, long size) {
+        List<Long> addresses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long address = allocator.allocate(size);
+            mem.setMemory(address, size, (byte) i);
+            addresses.add(address);
+        }
+        return addresses;
+    }
+
+    private void assertFilled(List<Long> addresses, long size) {
+        for (int i = 0; i < addresses.size(); i++) {
+            assertBlock(new long[]{addresses.get(i), size, (byte) i});
+        }
+    }
+
+    private void assertBlock(long[] block) {
+        for (long offset = 0; offset < block[1]; offset++) {
+            assertEquals((byte) block[2], mem.getByte(block[0] + offset));
+        }
+    }
+}
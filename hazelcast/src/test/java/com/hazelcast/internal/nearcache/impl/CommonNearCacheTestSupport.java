@@ -20,6 +20,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheDataRecordStore;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheDirectDataRecordStore;
 import com.hazelcast.internal.nearcache.impl.store.NearCacheObjectRecordStore;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -51,6 +52,10 @@ public abstract class CommonNearCacheTestSupport extends HazelcastTestSupport {
         scheduledExecutorServices.clear();
     }
 
+    boolean isDirectMemoryEnabled() {
+        return false;
+    }
+
     NearCacheConfig createNearCacheConfig(String name, InMemoryFormat inMemoryFormat) {
         return new NearCacheConfig()
                 .setName(name)
@@ -61,7 +66,9 @@ public abstract class CommonNearCacheTestSupport extends HazelcastTestSupport {
         NearCacheRecordStore<K, V> recordStore;
         switch (inMemoryFormat) {
             case BINARY:
-                recordStore = new NearCacheDataRecordStore<>(DEFAULT_NEAR_CACHE_NAME, nearCacheConfig, ss, null);
+                recordStore = isDirectMemoryEnabled()
+                        ? new NearCacheDirectDataRecordStore<>(DEFAULT_NEAR_CACHE_NAME, nearCacheConfig, ss, null)
+                        : new NearCacheDataRecordStore<>(DEFAULT_NEAR_CACHE_NAME, nearCacheConfig, ss, null);
                 break;
             case OBJECT:
                 recordStore = new NearCacheObjectRecordStore<>(DEFAULT_NEAR_CACHE_NAME, nearCacheConfig, ss, null);
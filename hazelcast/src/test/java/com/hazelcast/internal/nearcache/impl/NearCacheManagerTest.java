@@ -17,6 +17,8 @@
 package com.hazelcast.internal.nearcache.impl;
 
 import com.hazelcast.internal.nearcache.NearCacheManager;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheDirectDataRecordStore;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
 import com.hazelcast.test.annotation.QuickTest;
@@ -24,6 +26,10 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.internal.nearcache.NearCache.DIRECT_MEMORY_ENABLED;
+import static org.junit.Assert.assertEquals;
+
 @RunWith(HazelcastSerialClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class NearCacheManagerTest extends NearCacheManagerTestSupport {
@@ -53,4 +59,19 @@ public class NearCacheManagerTest extends NearCacheManagerTestSupport {
     public void destroyNearCacheAndDestroyAllNearCaches() {
         doDestroyNearCacheAndDestroyAllNearCaches();
     }
+
+    @Test
+    public void createNearCache_withDirectMemoryEnabled() {
+        HazelcastProperties directMemoryProperties = new HazelcastProperties(
+                smallInstanceConfig().setProperty(DIRECT_MEMORY_ENABLED.getName(), "true"));
+        NearCacheManager nearCacheManager = new DefaultNearCacheManager(ss, executionService.getGlobalTaskScheduler(),
+                null, directMemoryProperties);
+
+        DefaultNearCache<Integer, String> nearCache
+                = (DefaultNearCache<Integer, String>) createNearCache(nearCacheManager, DEFAULT_NEAR_CACHE_NAME, BINARY);
+        assertInstanceOf(NearCacheDirectDataRecordStore.class, nearCache.getNearCacheRecordStore());
+
+        nearCache.put(1, null, "value", null);
+        assertEquals("value", nearCache.get(1));
+    }
 }
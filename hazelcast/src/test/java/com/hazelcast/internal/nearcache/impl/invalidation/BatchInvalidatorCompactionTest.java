@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.invalidation;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.impl.invalidation.InvalidationUtils.TRUE_FILTER;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchInvalidatorCompactionTest extends HazelcastTestSupport {
+
+    private static final String MAP_NAME = "test";
+
+    private final UUID sourceUuid = UUID.randomUUID();
+    private final UUID partitionUuid = UUID.randomUUID();
+
+    private NodeEngineImpl nodeEngine;
+    private BatchInvalidator invalidator;
+
+    @Before
+    public void setUp() {
+        HazelcastInstance instance = createHazelcastInstance();
+        nodeEngine = getNodeEngineImpl(instance);
+        invalidator = new BatchInvalidator(MapService.SERVICE_NAME, 100, 10, true, TRUE_FILTER, nodeEngine);
+    }
+
+    @After
+    public void tearDown() {
+        invalidator.shutdown();
+    }
+
+    @Test
+    public void testCompactInvalidations_keepsLatestSequenceOfEachKey_groupedByPartition() {
+        Data key1 = keyOfPartition(1);
+        Data key2 = keyOfPartition(1);
+        Data key3 = keyOfPartition(0);
+
+        Invalidation invalidation1 = newInvalidation(key1, 1);
+        Invalidation invalidation2 = newInvalidation(key3, 1);
+        Invalidation invalidation3 = newInvalidation(key1, 2);
+        Invalidation invalidation4 = newInvalidation(key2, 3);
+        Invalidation invalidation5 = newInvalidation(key3, 2);
+        Invalidation invalidation6 = newInvalidation(key1, 4);
+
+        List<Invalidation> compacted = invalidator.compactInvalidations(asList(
+                invalidation1, invalidation2, invalidation3, invalidation4, invalidation5, invalidation6));
+
+        assertEquals(3, compacted.size());
+        // partition 0
+        assertSame(invalidation5, compacted.get(0));
+        // partition 1, in ascending sequence order
+        assertSame(invalidation4, compacted.get(1));
+        assertSame(invalidation6, compacted.get(2));
+    }
+
+    @Test
+    public void testCompactInvalidations_whenNoDuplicateKeys_thenKeepsAllInvalidations() {
+        Invalidation invalidation1 = newInvalidation(keyOfPartition(0), 1);
+        Invalidation invalidation2 = newInvalidation(keyOfPartition(0), 2);
+        Invalidation invalidation3 = newInvalidation(keyOfPartition(0), 3);
+
+        List<Invalidation> compacted = invalidator.compactInvalidations(asList(invalidation1, invalidation2, invalidation3));
+
+        assertEquals(asList(invalidation1, invalidation2, invalidation3), compacted);
+    }
+
+    private Data keyOfPartition(int partitionId) {
+        return nodeEngine.toData(generateKeyForPartition(nodeEngine.getHazelcastInstance(), partitionId));
+    }
+
+    private Invalidation newInvalidation(Data key, long sequence) {
+        return new SingleNearCacheInvalidation(key, MAP_NAME, sourceUuid, partitionUuid, sequence);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.preloader;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.config.NearCachePreloaderConfig;
+import com.hazelcast.internal.adapter.DataStructureAdapter;
+import com.hazelcast.internal.nearcache.NearCacheRecord;
+import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
+import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
+import com.hazelcast.internal.nearcache.impl.store.BaseHeapNearCacheRecordStore;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheDataRecordStore;
+import com.hazelcast.internal.nearcache.impl.store.NearCacheObjectRecordStore;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCachePreloaderStoreValuesTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 2;
+    private static final int KEY_COUNT = 10;
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final MetaDataContainer[] metaDataContainers = new MetaDataContainer[PARTITION_COUNT];
+    private final StaleReadDetector staleReadDetector = new TestStaleReadDetector();
+    private final File directory = new File(randomName());
+
+    @SuppressWarnings("unchecked")
+    private final DataStructureAdapter<Object, ?> adapter = mock(DataStructureAdapter.class);
+
+    private NearCacheConfig nearCacheConfig;
+
+    @Before
+    public void setUp() {
+        assertTrue(directory.mkdirs());
+
+        UUID uuid = UUID.randomUUID();
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            metaDataContainers[i] = new MetaDataContainer();
+            metaDataContainers[i].setUuid(uuid);
+            metaDataContainers[i].setSequence(23);
+        }
+        nearCacheConfig = new NearCacheConfig("test")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setPreloaderConfig(new NearCachePreloaderConfig()
+                        .setEnabled(true)
+                        .setDirectory(directory.getAbsolutePath()));
+    }
+
+    @After
+    public void tearDown() {
+        delete(directory);
+    }
+
+    @Test
+    public void testLoadKeys_whenPartitionsNotUpdated_thenValuesLoadedFromFile() {
+        storeKeys(true);
+
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(true);
+        store.loadKeys(adapter);
+
+        verify(adapter, never()).getAll(any());
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertEquals("value-" + i, store.get(i));
+        }
+        assertEquals(KEY_COUNT, store.size());
+        store.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLoadKeys_whenPartitionUpdated_thenKeysOfPartitionLoadedFromDataStructure() {
+        storeKeys(true);
+        // partition 0 got new invalidations, partition 1 got a new owner
+        metaDataContainers[0].setSequence(42);
+        metaDataContainers[1].setUuid(UUID.randomUUID());
+
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(true);
+        store.loadKeys(adapter);
+
+        ArgumentCaptor<Set<Object>> keys = ArgumentCaptor.forClass(Set.class);
+        verify(adapter, atLeastOnce()).getAll(keys.capture());
+        Set<Object> loadedKeys = new HashSet<>();
+        keys.getAllValues().forEach(loadedKeys::addAll);
+        assertEquals(KEY_COUNT, loadedKeys.size());
+        assertEquals(0, store.size());
+        store.destroy();
+    }
+
+    @Test
+    public void testLoadKeys_whenPartitionUpdated_thenOnlyKeysOfPartitionLoadedFromDataStructure() {
+        storeKeys(true);
+        metaDataContainers[1].setSequence(42);
+
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(true);
+        store.loadKeys(adapter);
+
+        Set<Object> expectedKeys = new HashSet<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            if (i % PARTITION_COUNT == 1) {
+                expectedKeys.add(i);
+                assertNull(store.get(i));
+            } else {
+                assertEquals("value-" + i, store.get(i));
+            }
+        }
+        verify(adapter).getAll(expectedKeys);
+        store.destroy();
+    }
+
+    @Test
+    public void testLoadKeys_whenValuesNotStored_thenKeysLoadedFromDataStructure() {
+        storeKeys(false);
+
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(true);
+        store.loadKeys(adapter);
+
+        Set<Object> expectedKeys = new HashSet<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            expectedKeys.add(i);
+        }
+        verify(adapter).getAll(expectedKeys);
+        assertEquals(0, store.size());
+        store.destroy();
+    }
+
+    @Test
+    public void testLoadKeys_withObjectInMemoryFormat() {
+        nearCacheConfig.setInMemoryFormat(InMemoryFormat.OBJECT);
+        storeKeys(true);
+
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(true);
+        store.loadKeys(adapter);
+
+        verify(adapter, never()).getAll(any());
+        assertEquals(asList("value-0", "value-1"), asList(store.get(0), store.get(1)));
+        store.destroy();
+    }
+
+    private void storeKeys(boolean preloadValues) {
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = createStore(preloadValues);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            Data keyData = serializationService.toData(i);
+            long reservationId = store.tryReserveForUpdate(i, keyData, READ_UPDATE);
+            store.tryPublishReserved(i, "value-" + i, reservationId, false);
+        }
+        store.storeKeys();
+        store.destroy();
+    }
+
+    private BaseHeapNearCacheRecordStore<Integer, Object, ?> createStore(boolean preloadValues) {
+        ClassLoader classLoader = getClass().getClassLoader();
+        BaseHeapNearCacheRecordStore<Integer, Object, ?> store = nearCacheConfig.getInMemoryFormat() == InMemoryFormat.OBJECT
+                ? new NearCacheObjectRecordStore<>("test", nearCacheConfig, serializationService, classLoader, preloadValues)
+                : new NearCacheDataRecordStore<>("test", nearCacheConfig, serializationService, classLoader, preloadValues);
+        store.initialize();
+        store.setStaleReadDetector(staleReadDetector);
+        return store;
+    }
+
+    private class TestStaleReadDetector implements StaleReadDetector {
+
+        @Override
+        public boolean isStaleRead(Object key, NearCacheRecord record) {
+            MetaDataContainer metaDataContainer = metaDataContainers[record.getPartitionId()];
+            return !record.hasSameUuid(metaDataContainer.getUuid())
+                    || record.getInvalidationSequence() < metaDataContainer.getStaleSequence();
+        }
+
+        @Override
+        public int getPartitionId(Object keyData) {
+            int key = serializationService.toObject(keyData);
+            return key % PARTITION_COUNT;
+        }
+
+        @Override
+        public MetaDataContainer getMetaDataContainer(int partitionId) {
+            return metaDataContainers[partitionId];
+        }
+    }
+}
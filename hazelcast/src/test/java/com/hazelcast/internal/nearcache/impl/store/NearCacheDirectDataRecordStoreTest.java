@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.store;
+
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.memory.impl.BuddyMemoryAllocator;
+import com.hazelcast.internal.nearcache.impl.record.NearCacheDirectDataRecord;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.WRITE_UPDATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class NearCacheDirectDataRecordStoreTest {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private SerializationService serializationService;
+    private NearCacheDirectDataRecordStore<Data, String> store;
+
+    @Before
+    public void setUp() {
+        assumeTrue(MEM_AVAILABLE);
+        NearCacheConfig config = new NearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(ENTRY_COUNT));
+
+        serializationService = new DefaultSerializationServiceBuilder().build();
+
+        store = new NearCacheDirectDataRecordStore<>("name", config, serializationService, getClass().getClassLoader());
+        store.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    @Test
+    public void testPut_thenValueInNativeMemory() {
+        put(1, "value");
+
+        assertTrue(allocator().getUsedMemory() > 0);
+        assertEquals("value", store.get(key(1)));
+    }
+
+    @Test
+    public void testUpdate_thenOldValueFreed() {
+        update(1, "value-0");
+        long usedMemory = allocator().getUsedMemory();
+
+        for (int i = 1; i < 10; i++) {
+            update(1, "value-" + i);
+        }
+
+        assertEquals(usedMemory, allocator().getUsedMemory());
+        assertEquals("value-9", store.get(key(1)));
+    }
+
+    @Test
+    public void testInvalidate_thenValuesFreed() {
+        putEntries();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            store.invalidate(key(i));
+        }
+
+        assertEquals(0, allocator().getUsedMemory());
+    }
+
+    @Test
+    public void testEviction_thenEvictedValuesFreed() {
+        putEntries();
+        long usedMemory = allocator().getUsedMemory();
+
+        for (int i = ENTRY_COUNT; i < 2 * ENTRY_COUNT; i++) {
+            store.doEviction(false);
+            put(i, "value-" + i);
+        }
+
+        assertEquals(ENTRY_COUNT, store.size());
+        assertTrue(allocator().getUsedMemory() <= usedMemory);
+    }
+
+    @Test
+    public void testClear_thenValuesFreed() {
+        putEntries();
+
+        store.clear();
+
+        assertEquals(0, allocator().getUsedMemory());
+        assertEquals(0, store.getNearCacheStats().getOwnedEntryMemoryCost());
+    }
+
+    @Test
+    public void testGet_whenValueReleased_thenMiss() {
+        put(1, "value");
+        NearCacheDirectDataRecord record = store.getRecord(key(1));
+
+        record.releaseValue();
+
+        assertNull(record.getValue());
+        assertNull(store.get(key(1)));
+        assertEquals(0, allocator().getUsedMemory());
+    }
+
+    @Test
+    public void testGet_whenValueReleasedDuringRead_thenReadCompletes() {
+        put(1, "value");
+        NearCacheDirectDataRecord record = store.getRecord(key(1));
+        Data value = record.getValue();
+
+        store.invalidate(key(1));
+
+        assertEquals("value", serializationService.toObject(value));
+        assertEquals(0, allocator().getUsedMemory());
+    }
+
+    @Test
+    public void testDestroy_thenMemoryDisposed() {
+        putEntries();
+
+        store.destroy();
+
+        assertEquals(0, allocator().getCommittedMemory());
+    }
+
+    private void putEntries() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            put(i, "value-" + i);
+        }
+        assertEquals(ENTRY_COUNT, store.size());
+    }
+
+    private void put(int key, String value) {
+        Data keyData = key(key);
+        store.put(keyData, keyData, value, serializationService.toData(value));
+    }
+
+    private void update(int key, String value) {
+        Data keyData = key(key);
+        long reservationId = store.tryReserveForUpdate(keyData, keyData, WRITE_UPDATE);
+        store.tryPublishReserved(keyData, value, reservationId, false);
+    }
+
+    private Data key(int key) {
+        return serializationService.toData(key);
+    }
+
+    private BuddyMemoryAllocator allocator() {
+        return store.getMemoryManager().getAllocator();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder.compact;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactDataViewTest {
+
+    private final InternalSerializationService serializationService = createSerializationService();
+
+    private final GenericRecord record = compact("counter")
+            .setString("name", "foo")
+            .setBoolean("enabled", false)
+            .setBoolean("visible", true)
+            .setInt8("b", (byte) 1)
+            .setInt16("s", (short) 2)
+            .setInt32("count", 3)
+            .setInt64("total", 4L)
+            .setFloat32("f", 5.5f)
+            .setFloat64("d", 6.5d)
+            .setNullableInt32("nullableCount", 7)
+            .build();
+
+    @Test
+    public void testRead() {
+        CompactDataView view = new CompactDataView(serializationService, serializationService.toData(record));
+
+        assertEquals("foo", view.getRecord().getString("name"));
+        assertEquals(3, view.getRecord().getInt32("count"));
+        assertFalse(view.isModified());
+    }
+
+    @Test
+    public void testFixedSizeFieldsUpdatedInPlace() {
+        Data data = serializationService.toData(record);
+        byte[] originalBytes = data.toByteArray().clone();
+        CompactDataView view = new CompactDataView(serializationService, data);
+
+        view.setBoolean("enabled", true);
+        view.setBoolean("visible", false);
+        view.setInt8("b", (byte) 11);
+        view.setInt16("s", (short) 12);
+        view.setInt32("count", view.getRecord().getInt32("count") + 10);
+        view.setInt64("total", 14L);
+        view.setFloat32("f", 15.5f);
+        view.setFloat64("d", 16.5d);
+
+        assertTrue(view.isModified());
+        assertEquals(data.totalSize(), view.toData().totalSize());
+        // the given data is not modified
+        assertArrayEquals(originalBytes, data.toByteArray());
+
+        GenericRecord actual = serializationService.toObject(view.toData());
+        assertEquals("foo", actual.getString("name"));
+        assertTrue(actual.getBoolean("enabled"));
+        assertFalse(actual.getBoolean("visible"));
+        assertEquals(11, actual.getInt8("b"));
+        assertEquals(12, actual.getInt16("s"));
+        assertEquals(13, actual.getInt32("count"));
+        assertEquals(14L, actual.getInt64("total"));
+        assertEquals(15.5f, actual.getFloat32("f"), 0);
+        assertEquals(16.5d, actual.getFloat64("d"), 0);
+        assertEquals(Integer.valueOf(7), actual.getNullableInt32("nullableCount"));
+    }
+
+    @Test
+    public void testVariableSizeFieldsUpdated() {
+        CompactDataView view = new CompactDataView(serializationService, serializationService.toData(record));
+
+        view.setInt32("count", 13);
+        view.update(builder -> builder.setString("name", "foobar").setNullableInt32("nullableCount", null));
+        view.setInt64("total", 14L);
+
+        GenericRecord actual = serializationService.toObject(view.toData());
+        assertEquals("foobar", actual.getString("name"));
+        assertEquals(13, actual.getInt32("count"));
+        assertEquals(14L, actual.getInt64("total"));
+        assertEquals(null, actual.getNullableInt32("nullableCount"));
+    }
+
+    @Test
+    public void testNotModified_returnsSameData() {
+        Data data = serializationService.toData(record);
+        CompactDataView view = new CompactDataView(serializationService, data);
+
+        assertSame(data, view.toData());
+    }
+
+    @Test
+    public void testUpdateVariableSizeField_withFixedSizeSetter() {
+        CompactDataView view = new CompactDataView(serializationService, serializationService.toData(record));
+
+        assertThatThrownBy(() -> view.setInt32("nullableCount", 1))
+                .isInstanceOf(HazelcastSerializationException.class)
+                .hasMessageContaining("Invalid field kind");
+        assertThatThrownBy(() -> view.setInt32("unknown", 1))
+                .isInstanceOf(HazelcastSerializationException.class)
+                .hasMessageContaining("Invalid field name");
+        assertFalse(view.isModified());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonCompactData() {
+        new CompactDataView(serializationService, serializationService.toData("foo"));
+    }
+}
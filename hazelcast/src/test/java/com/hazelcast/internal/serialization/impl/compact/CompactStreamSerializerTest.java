@@ -471,6 +471,31 @@ public class CompactStreamSerializerTest {
         assertEquals(employeeDTO, actual);
     }
 
+    @Test
+    public void testReflectiveSerializer_readsSameClassWithDifferentSchemas() {
+        CompactSerializationConfig compactSerializationConfig = new CompactSerializationConfig();
+        compactSerializationConfig.addClass(EmployeeDTO.class);
+        SerializationService serializationService = createSerializationService(compactSerializationConfig);
+
+        EmployeeDTO expected = new EmployeeDTO(30, 102310312);
+        EmployeeDTO actual = serializationService.toObject(serializationService.toData(expected));
+        assertEquals(expected, actual);
+
+        // nullable age, missing id, and rank with an incompatible kind
+        GenericRecord record = compact(EmployeeDTO.class.getName())
+                .setNullableInt32("age", 42)
+                .setString("rank", "senior")
+                .setBoolean("isHired", true)
+                .build();
+        actual = serializationService.toObject(serializationService.toData(record));
+        assertEquals(42, actual.getAge());
+        assertEquals(0, actual.getId());
+
+        // the descriptors resolved for the first schema are still used for it
+        actual = serializationService.toObject(serializationService.toData(expected));
+        assertEquals(expected, actual);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testCompactInnerFieldCanNotOverrideDefaultSerializer() {
         testUsageOfCompactClassInnerFieldAsCustomSerializer(false);
@@ -257,6 +257,37 @@ public abstract class AbstractConcurrentArrayQueueTest extends HazelcastTestSupp
         });
     }
 
+    @Test
+    public void testDrain_whenHandlerRejects_thenRemainingItemsStay() {
+        for (int i = 0; i < CAPACITY; i++) {
+            queue.offer(i);
+        }
+
+        int drained = queue.drain(integer -> integer < 2);
+
+        assertEquals(3, drained);
+        assertEquals(3, queue.removedCount());
+        assertEquals(3, (int) queue.poll());
+    }
+
+    @Test
+    public void testDrain_whenHandlerThrows_thenConsumedItemsRemoved() {
+        for (int i = 0; i < CAPACITY; i++) {
+            queue.offer(i);
+        }
+
+        assertThrows(IllegalStateException.class, () -> queue.drain(integer -> {
+            if (integer == 2) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+
+        assertEquals(3, queue.removedCount());
+        assertEquals(3, (int) queue.poll());
+        assertTrue(queue.offer(CAPACITY));
+    }
+
     @Test
     public void testDrainTo() {
         testDrainTo(3, 3);
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.executor;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class VirtualThreadFactoryTest extends HazelcastTestSupport {
+
+    @Test
+    public void newThread_whenSupported() {
+        assumeTrue(VirtualThreadFactory.isSupported());
+        ClassLoader classLoader = new ClassLoader() { };
+        VirtualThreadFactory factory = new VirtualThreadFactory("virtual-", classLoader, null);
+        AtomicReference<ClassLoader> contextClassLoader = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        Thread thread = factory.newThread(() -> {
+            contextClassLoader.set(Thread.currentThread().getContextClassLoader());
+            ran.countDown();
+        });
+        thread.start();
+
+        assertOpenEventually(ran);
+        assertThat(thread.getName()).startsWith("virtual-");
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(contextClassLoader.get()).isSameAs(classLoader);
+    }
+
+    @Test
+    public void newThreadPerTaskExecutor_startsThreadPerTask() throws Exception {
+        assumeTrue(VirtualThreadFactory.isSupported());
+        VirtualThreadFactory factory = new VirtualThreadFactory("virtual-", null, null);
+        ExecutorService executor = factory.newThreadPerTaskExecutor();
+        try {
+            Thread first = executor.submit(Thread::currentThread).get();
+            Thread second = executor.submit(Thread::currentThread).get();
+
+            assertThat(first.getName()).startsWith("virtual-");
+            assertThat(second).isNotSameAs(first);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void construct_whenNotSupported() {
+        assumeFalse(VirtualThreadFactory.isSupported());
+
+        assertThatThrownBy(() -> new VirtualThreadFactory("virtual-", null, null))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
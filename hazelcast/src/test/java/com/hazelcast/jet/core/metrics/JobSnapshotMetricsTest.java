@@ -20,6 +20,8 @@ import com.hazelcast.config.Config;
 import com.hazelcast.jet.Job;
 import com.hazelcast.jet.SimpleTestInClusterSupport;
 import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.DAG;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.impl.JobRepository;
 import com.hazelcast.jet.pipeline.Pipeline;
@@ -32,6 +34,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 @Category({QuickTest.class, ParallelJVMTest.class})
 public class JobSnapshotMetricsTest extends SimpleTestInClusterSupport {
 
@@ -61,6 +65,23 @@ public class JobSnapshotMetricsTest extends SimpleTestInClusterSupport {
         assertSnapshotMBeans(job, SOURCE_VERTEX_NAME, 1, true);
     }
 
+    @Test
+    public void when_snapshotTakesTime_then_snapshotDurationIsPositive() {
+        DAG dag = new DAG();
+        dag.newVertex(SOURCE_VERTEX_NAME, SlowSnapshotP::new).localParallelism(1);
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setProcessingGuarantee(ProcessingGuarantee.EXACTLY_ONCE)
+                .setSnapshotIntervalMillis(50);
+        Job job = instance().getJet().newJob(dag, jobConfig);
+
+        JobRepository jr = new JobRepository(instance());
+        waitForFirstSnapshot(jr, job.getId(), 20, false);
+
+        JobMetricsChecker checker = new JobMetricsChecker(job);
+        assertTrueEventually(() -> checker.assertSummedMetricValueAtLeast(MetricNames.SNAPSHOT_DURATION,
+                SlowSnapshotP.SNAPSHOT_MILLIS / 2));
+    }
+
     @Test
     public void when_snapshotIsNotCreated_then_snapshotMetricsAreEmpty() throws Exception {
         JobConfig jobConfig = new JobConfig();
@@ -108,6 +129,37 @@ public class JobSnapshotMetricsTest extends SimpleTestInClusterSupport {
         return p;
     }
 
+    /**
+     * Saves two keys to each snapshot, the second one {@value #SNAPSHOT_MILLIS}
+     * ms after the first one.
+     */
+    private static final class SlowSnapshotP extends AbstractProcessor {
+        static final long SNAPSHOT_MILLIS = 100;
+
+        private long firstKeySavedNanos = -1;
+
+        @Override
+        public boolean complete() {
+            return false;
+        }
+
+        @Override
+        public boolean saveToSnapshot() {
+            if (firstKeySavedNanos < 0) {
+                if (tryEmitToSnapshot("first", 1)) {
+                    firstKeySavedNanos = System.nanoTime();
+                }
+                return false;
+            }
+            if (System.nanoTime() - firstKeySavedNanos < MILLISECONDS.toNanos(SNAPSHOT_MILLIS)
+                    || !tryEmitToSnapshot("second", 2)) {
+                return false;
+            }
+            firstKeySavedNanos = -1;
+            return true;
+        }
+    }
+
     private void assertSnapshotMBeans(Job job, String vertex, long expectedSnapshotKeys, boolean snapshotBytesExists)
             throws Exception {
         JmxMetricsChecker checker = JmxMetricsChecker.forExecution(instance(), job, "vertex=" + vertex);
@@ -55,6 +55,7 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -63,6 +64,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -78,6 +80,7 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
 
     private final CompletableFuture<Void> cancellationFuture = new CompletableFuture<>();
 
+    private NodeEngine neMock;
     private TaskletExecutionService tes;
     private ExecutorService executor;
     private final ClassLoader classLoader = getClass().getClassLoader();
@@ -85,7 +88,7 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -334,6 +337,32 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         // -- assertions are inside TaskletAssertingThreadLocal and will fail, if t1 and t2 are running on the same thread
     }
 
+    @Test
+    public void when_rebalancingEnabledAndBusyTaskletsOnSameWorker_then_migrated() {
+        // Given
+        tes.shutdown();
+        Properties properties = new Properties();
+        properties.setProperty(JET_COOPERATIVE_REBALANCE_INTERVAL_MILLIS.getName(), "10");
+        tes = new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
+        // the tasklets are assigned round-robin, the busy ones start on the same worker
+        BusyTasklet busy1 = new BusyTasklet();
+        BusyTasklet busy2 = new BusyTasklet();
+        List<Tasklet> tasklets = asList(busy1, new MockTasklet().callsBeforeDone(Integer.MAX_VALUE),
+                new MockTasklet().callsBeforeDone(Integer.MAX_VALUE), new MockTasklet().callsBeforeDone(Integer.MAX_VALUE),
+                busy2);
+
+        // When
+        CompletableFuture<Void> f = tes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+        // Then
+        assertTrueEventually(() -> {
+            assertNotNull(busy1.lastThread);
+            assertNotEquals(busy1.lastThread, busy2.lastThread);
+        });
+        cancellationFuture.cancel(true);
+        assertTrueEventually(() -> assertTrue(f.isDone()));
+    }
+
     @Test
     public void when_tryCompleteOnReturnedFuture_then_fails() {
         // Given
@@ -491,6 +520,22 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class BusyTasklet implements Tasklet {
+
+        private volatile Thread lastThread;
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            lastThread = Thread.currentThread();
+            long end = System.nanoTime() + MILLISECONDS.toNanos(1);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            return MADE_PROGRESS;
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
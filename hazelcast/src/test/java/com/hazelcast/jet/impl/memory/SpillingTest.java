@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.aggregate.AggregateOperation;
+import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.hazelcast.internal.nio.IOUtil.delete;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertAnyOrder;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertOrdered;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SPILL_DIRECTORY;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SpillingTest extends SimpleTestInClusterSupport {
+
+    private static final int MAX_PROCESSOR_ACCUMULATED_RECORDS = 5;
+    private static final int GROUP_COUNT = 100;
+    // SortP.MAX_MERGED_RUNS
+    private static final int MAX_MERGED_RUNS = 64;
+
+    private static File spillDirectory;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        spillDirectory = Files.createTempDirectory("spilling-test").toFile();
+        Config config = smallInstanceConfig();
+        config.setProperty(JET_SPILL_DIRECTORY.getName(), spillDirectory.getAbsolutePath());
+        config.getJetConfig()
+                .setCooperativeThreadCount(1)
+                .setMaxProcessorAccumulatedRecords(MAX_PROCESSOR_ACCUMULATED_RECORDS);
+
+        initialize(1, config);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        delete(spillDirectory);
+    }
+
+    @Test
+    public void testGrouping_whenLimitReached_thenAccumulatorsSpilled() {
+        List<Entry<Integer, Long>> expected = IntStream.range(0, GROUP_COUNT)
+                .mapToObj(i -> entry(i, 10L))
+                .collect(toList());
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(IntStream.range(0, 10 * GROUP_COUNT).boxed().collect(toList())))
+                .groupingKey(i -> i % GROUP_COUNT)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expected));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void testGrouping_whenSpilledPartitionOverLimit_thenSpilledAgain() {
+        // many more groups per spilled partition than the limit
+        int groupCount = 1000;
+        List<Entry<Integer, Long>> expected = IntStream.range(0, groupCount)
+                .mapToObj(i -> entry(i, 3L))
+                .collect(toList());
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(IntStream.range(0, 3 * groupCount).boxed().collect(toList())))
+                .groupingKey(i -> i % groupCount)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expected));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void testGrouping_whenMoreEqualHashesThanLimit_thenSpilledUntilAllRead() {
+        // "Aa" and "BB" have the same hash code, so do all 16 keys
+        List<String> keys = new ArrayList<>(List.of(""));
+        for (int i = 0; i < 4; i++) {
+            keys = keys.stream().flatMap(k -> Stream.of(k + "Aa", k + "BB")).collect(toList());
+        }
+        List<Entry<String, Long>> expected = keys.stream().map(k -> entry(k, 2L)).collect(toList());
+        List<String> items = new ArrayList<>(keys);
+        items.addAll(keys);
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items))
+                .groupingKey(k -> k)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(expected));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void testSorting_whenLimitReached_thenSortedRunsSpilledAndMerged() {
+        // more runs than SortP merges at once
+        int itemCount = 1003;
+        List<Integer> items = IntStream.range(0, itemCount).boxed().collect(toList());
+        List<Integer> shuffled = new ArrayList<>(items);
+        Collections.shuffle(shuffled, new Random(42));
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(shuffled))
+                .sort()
+                .writeTo(assertOrdered(items));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void testSorting_whenManyLevelsOfRuns_thenSmallestRunsMergedFirst() {
+        // 40 merged and 40 spilled runs remain, more than SortP merges at once
+        int itemCount = MAX_PROCESSOR_ACCUMULATED_RECORDS * (40 * MAX_MERGED_RUNS + 40) + 3;
+        List<Integer> items = IntStream.range(0, itemCount).boxed().collect(toList());
+        List<Integer> shuffled = new ArrayList<>(items);
+        Collections.shuffle(shuffled, new Random(42));
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(shuffled))
+                .sort()
+                .writeTo(assertOrdered(items));
+
+        instance().getJet().newJob(pipeline).join();
+
+        assertThat(spillDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void testGrouping_whenNoCombineFn_thenLimitExceeded() {
+        AggregateOperation1<Integer, long[], Long> countingWithoutCombine = AggregateOperation
+                .withCreate(() -> new long[1])
+                .<Integer>andAccumulate((acc, item) -> acc[0]++)
+                .andExportFinish(acc -> acc[0]);
+
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(IntStream.range(0, GROUP_COUNT).boxed().collect(toList())))
+                .groupingKey(i -> i)
+                .aggregate(countingWithoutCombine)
+                .writeTo(assertAnyOrder(List.of()));
+
+        assertThatThrownBy(() -> instance().getJet().newJob(pipeline, new JobConfig()).join())
+                .hasMessageContaining("Exception thrown to prevent an OutOfMemoryError on this Hazelcast instance");
+    }
+}
@@ -56,6 +56,7 @@ import static java.util.stream.Stream.generate;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -263,6 +264,38 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
                 assertThat(String.valueOf(writer.getError())).contains("Always failing store"));
     }
 
+    @Test
+    public void when_partitionIdleDuringSnapshot_then_writtenCorrectlyInNextSnapshot() {
+        Entry<Data, Data> entry1 = entry(serialize("k"), serialize("v"));
+        Entry<Data, Data> entry2 = entry(serialize("kk"), serialize("vv"));
+        assertTrue(writer.offer(entry1));
+        assertTrue(writer.offer(entry2));
+        assertTrue(writer.flushAndResetMap());
+
+        // the buffer of the partition of "kk" is released after this snapshot
+        snapshotContext.setCurrentMapName("map2");
+        snapshotContext.setCurrentSnapshotId(2L);
+        assertTrue(writer.offer(entry1));
+        assertTrue(writer.flushAndResetMap());
+
+        // When
+        snapshotContext.setCurrentMapName("map3");
+        snapshotContext.setCurrentSnapshotId(3L);
+        assertTrue(writer.offer(entry2));
+        assertTrue(writer.offer(entry2));
+        assertTrue(writer.flushAndResetMap());
+
+        // Then
+        IMap<SnapshotDataKey, byte[]> map3 = nodeEngine.getHazelcastInstance().getMap("map3");
+        assertTrueEventually(() -> assertEquals(1, map3.size()));
+        BufferObjectDataInput in = serializationService.createObjectDataInput(map3.values().iterator().next());
+        for (int i = 0; i < 2; i++) {
+            assertEquals("kk", serializationService.readObject(in, true));
+            assertEquals("vv", serializationService.readObject(in, true));
+        }
+        assertEquals(SnapshotDataValueTerminator.INSTANCE, serializationService.readObject(in, true));
+    }
+
     @Test
     public void test_serializeAndDeserialize() {
         // This is the way we serialize and deserialize objects into the snapshot. We depend on some internals of IMDG:
@@ -325,6 +358,24 @@ public class AsyncSnapshotWriterImplTest extends JetTestSupport {
         assertThrows(RuntimeException.class, () -> os.write(1));
     }
 
+    @Test
+    public void when_trimIfIdle_then_contentKept() {
+        // Given
+        CustomByteArrayOutputStream os = new CustomByteArrayOutputStream(64);
+        os.write(new byte[]{1, 2, 3, 4, 5}, 0, 5);
+        os.reset();
+        os.write(new byte[]{6, 7, 8}, 0, 3);
+
+        // When
+        os.trimIfIdle();
+        os.trimIfIdle();
+
+        // Then
+        assertArrayEquals(new byte[]{6, 7, 8}, os.toByteArray());
+        os.write(9);
+        assertArrayEquals(new byte[]{6, 7, 8, 9}, os.toByteArray());
+    }
+
     static class AlwaysFailingMapStore extends AMapStore implements Serializable {
 
         @Override
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FlatHashMapTest {
+
+    private final FlatHashMap<Integer, String> map = new FlatHashMap<>();
+
+    @Test
+    public void smokeTest() {
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertEquals("b", map.get(1));
+        assertTrue(map.containsKey(1));
+        assertEquals(1, map.size());
+
+        assertEquals("b", map.remove(1));
+        assertNull(map.get(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void when_nullKey_then_supported() {
+        map.put(null, "a");
+
+        assertEquals("a", map.get(null));
+        assertTrue(map.containsKey(null));
+        assertNull(map.entrySet().iterator().next().getKey());
+        assertEquals("a", map.remove(null));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void when_computeIfAbsent_then_valueCreatedOnce() {
+        String value = map.computeIfAbsent(1, k -> "a");
+
+        assertSame(value, map.computeIfAbsent(1, k -> "b"));
+        assertNull(map.computeIfAbsent(2, k -> null));
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    public void when_entrySetValueSet_then_mapUpdated() {
+        map.put(1, "a");
+
+        map.entrySet().iterator().next().setValue("b");
+
+        assertEquals("b", map.get(1));
+    }
+
+    @Test
+    public void when_randomOperations_then_sameAsHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // a small key range to have many collisions and removals
+            int key = random.nextInt(1000);
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertEquals(expected, map);
+        Map<Integer, String> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(expected.keySet().iterator().next()));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.util;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.jet.Traversers.empty;
+import static com.hazelcast.jet.Traversers.traverseItems;
+import static com.hazelcast.jet.Traversers.traverseIterable;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LoserTreeTraverserTest {
+
+    @Test
+    public void smokeTest() {
+        LoserTreeTraverser<Integer> trav = new LoserTreeTraverser<>(
+                asList(traverseItems(1, 4, 7), traverseItems(2, 5), empty(), traverseItems(0, 3, 6, 8)), null);
+
+        assertEquals(asList(0, 1, 2, 3, 4, 5, 6, 7, 8), drain(trav));
+        assertNull(trav.next());
+    }
+
+    @Test
+    public void when_noSources_then_empty() {
+        assertNull(new LoserTreeTraverser<Integer>(emptyList(), null).next());
+    }
+
+    @Test
+    public void when_singleSource_then_sameItems() {
+        LoserTreeTraverser<Integer> trav = new LoserTreeTraverser<>(singletonList(traverseItems(1, 2, 3)), null);
+
+        assertEquals(asList(1, 2, 3), drain(trav));
+    }
+
+    @Test
+    public void when_comparator_then_mergedInComparatorOrder() {
+        LoserTreeTraverser<String> trav = new LoserTreeTraverser<>(
+                asList(traverseItems("ccc", "a"), traverseItems("bb")), Comparator.comparing(String::length).reversed());
+
+        assertEquals(asList("ccc", "bb", "a"), drain(trav));
+    }
+
+    @Test
+    public void when_randomSources_then_sorted() {
+        Random random = new Random(42);
+        List<Traverser<Integer>> sources = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 13; i++) {
+            List<Integer> source = new ArrayList<>();
+            for (int j = random.nextInt(50); j > 0; j--) {
+                source.add(random.nextInt(100));
+            }
+            source.sort(null);
+            expected.addAll(source);
+            sources.add(traverseIterable(source));
+        }
+        expected.sort(null);
+
+        assertEquals(expected, drain(new LoserTreeTraverser<>(sources, null)));
+    }
+
+    private static <T> List<T> drain(Traverser<T> trav) {
+        List<T> items = new ArrayList<>();
+        for (T item; (item = trav.next()) != null; ) {
+            items.add(item);
+        }
+        return items;
+    }
+}
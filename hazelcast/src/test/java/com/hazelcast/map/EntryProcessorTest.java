@@ -32,6 +32,8 @@ import com.hazelcast.internal.json.Json;
 import com.hazelcast.internal.json.JsonValue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.CompactDataView;
+import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
@@ -47,6 +49,8 @@ import com.hazelcast.map.listener.NoopMapListener;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.PredicateBuilder.EntryObject;
 import com.hazelcast.query.Predicates;
@@ -431,6 +435,32 @@ public class EntryProcessorTest extends HazelcastTestSupport {
 
     }
 
+    @Test
+    public void testEntryProcessorOnCompactValueView() {
+        Config cfg = getConfig();
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(cfg);
+        HazelcastInstance instance2 = factory.newHazelcastInstance(cfg);
+
+        IMap<String, GenericRecord> map = instance2.getMap(MAP_NAME);
+        String key = generateKeyOwnedBy(instance1);
+        map.put(key, GenericRecordBuilder.compact("counter")
+                .setString("name", "foo")
+                .setInt32("count", 0)
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(Integer.valueOf(i), map.executeOnKey(key, new CompactCounterIncrementer()));
+        }
+
+        GenericRecord record = map.get(key);
+        assertEquals("foo", record.getString("name"));
+        assertEquals(5, record.getInt32("count"));
+
+        instance1.shutdown();
+        assertEquals(5, map.get(key).getInt32("count"));
+    }
+
     @Test
     public void testIssue2754() {
         Config cfg = getConfig();
@@ -1784,6 +1814,18 @@ public class EntryProcessorTest extends HazelcastTestSupport {
         }
     }
 
+    private static class CompactCounterIncrementer implements EntryProcessor<String, GenericRecord, Integer> {
+        @Override
+        public Integer process(Entry<String, GenericRecord> entry) {
+            LazyMapEntry<String, GenericRecord> lazyEntry = (LazyMapEntry<String, GenericRecord>) entry;
+            CompactDataView value = lazyEntry.getCompactValue();
+            int count = value.getRecord().getInt32("count") + 1;
+            value.setInt32("count", count);
+            lazyEntry.setCompactValue(value);
+            return count;
+        }
+    }
+
     private static class ChangeStateEntryProcessor implements EntryProcessor<Integer, Employee, Employee> {
 
         ChangeStateEntryProcessor() {
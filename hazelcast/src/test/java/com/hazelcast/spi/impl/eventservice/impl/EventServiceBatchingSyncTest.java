@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ConfigAccessor;
+import com.hazelcast.config.ServiceConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.impl.eventservice.EventPublishingService;
+import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.OverridePropertyRule;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.impl.eventservice.impl.EventServiceTest.getEventService;
+import static com.hazelcast.test.OverridePropertyRule.set;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the delivery of batched remote events when every publication is sent
+ * synchronously.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class EventServiceBatchingSyncTest extends HazelcastTestSupport {
+
+    private static final String SERVICE_NAME = "counting-service";
+    private static final String TOPIC = "counting-topic";
+    private static final int LISTENER_COUNT = 5;
+    private static final int EVENT_COUNT = 10;
+
+    @Rule
+    public final OverridePropertyRule overrideSyncFrequencyRule = set(EventServiceImpl.EVENT_SYNC_FREQUENCY_PROP, "1");
+
+    @Test
+    public void testRemoteEvent_deliveredOnceToAllRegistrations_whenEverySendIsSync() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(newConfig());
+        HazelcastInstance subscriber = factory.newHazelcastInstance(newConfig());
+
+        List<AtomicInteger> listeners = new ArrayList<>();
+        for (int i = 0; i < LISTENER_COUNT; i++) {
+            AtomicInteger listener = new AtomicInteger();
+            getEventService(subscriber).registerListener(SERVICE_NAME, TOPIC, listener);
+            listeners.add(listener);
+        }
+
+        EventService publisherEventService = getEventService(publisher);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            publisherEventService.publishEvent(SERVICE_NAME, TOPIC, "event", 1);
+        }
+
+        assertTrueEventually(() -> {
+            for (AtomicInteger listener : listeners) {
+                assertEquals(EVENT_COUNT, listener.get());
+            }
+        });
+        assertTrueAllTheTime(() -> {
+            for (AtomicInteger listener : listeners) {
+                assertEquals(EVENT_COUNT, listener.get());
+            }
+        }, 1);
+    }
+
+    private static Config newConfig() {
+        Config config = new Config();
+        ServiceConfig serviceConfig = new ServiceConfig().setEnabled(true).setName(SERVICE_NAME)
+                .setImplementation(new CountingEventPublishingService());
+        ConfigAccessor.getServicesConfig(config).addServiceConfig(serviceConfig);
+        return config;
+    }
+
+    private static class CountingEventPublishingService implements EventPublishingService<Object, AtomicInteger> {
+        @Override
+        public void dispatchEvent(Object event, AtomicInteger listener) {
+            listener.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ConfigAccessor;
+import com.hazelcast.config.ServiceConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.spi.impl.eventservice.EventPublishingService;
+import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.impl.eventservice.impl.EventServiceTest.getEventService;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EventServiceBatchingTest extends HazelcastTestSupport {
+
+    private static final String SERVICE_NAME = "counting-service";
+    private static final String TOPIC = "counting-topic";
+    private static final int LISTENER_COUNT = 5;
+
+    @Test
+    public void testRemoteEvent_deliveredToAllRegistrationsOnSubscriber() {
+        testRemoteEventDelivery("100");
+    }
+
+    @Test
+    public void testRemoteEvent_deliveredToAllRegistrationsOnSubscriber_whenBatchSplit() {
+        testRemoteEventDelivery("2");
+    }
+
+    @Test
+    public void testRemoteEvent_deliveredToAllRegistrationsOnSubscriber_whenBatchingDisabled() {
+        testRemoteEventDelivery("1");
+    }
+
+    private void testRemoteEventDelivery(String batchMaxSize) {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(newConfig(batchMaxSize));
+        HazelcastInstance subscriber = factory.newHazelcastInstance(newConfig(batchMaxSize));
+
+        List<AtomicInteger> listeners = new ArrayList<>();
+        for (int i = 0; i < LISTENER_COUNT; i++) {
+            AtomicInteger listener = new AtomicInteger();
+            getEventService(subscriber).registerListener(SERVICE_NAME, TOPIC, listener);
+            listeners.add(listener);
+        }
+
+        EventService publisherEventService = getEventService(publisher);
+        assertEquals(LISTENER_COUNT, publisherEventService.getRegistrations(SERVICE_NAME, TOPIC).size());
+        publisherEventService.publishEvent(SERVICE_NAME, TOPIC, "event", 1);
+
+        assertTrueEventually(() -> {
+            for (AtomicInteger listener : listeners) {
+                assertEquals(1, listener.get());
+            }
+        });
+        assertTrueAllTheTime(() -> {
+            for (AtomicInteger listener : listeners) {
+                assertEquals(1, listener.get());
+            }
+        }, 1);
+    }
+
+    @Test
+    public void testBatchEventEnvelope_serialization() {
+        HazelcastInstance hz = createHazelcastInstance();
+        InternalSerializationService ss = getSerializationService(hz);
+        UUID[] ids = {UUID.randomUUID(), UUID.randomUUID()};
+        BatchEventEnvelope envelope = new BatchEventEnvelope(ids, SERVICE_NAME, ss.toData("event"));
+
+        BatchEventEnvelope deserialized = ss.toObject(ss.toData(envelope));
+
+        assertArrayEquals(ids, deserialized.getEventIds());
+        assertEquals(SERVICE_NAME, deserialized.getServiceName());
+        assertThat((Object) ss.toObject(deserialized.getEvent())).isEqualTo("event");
+    }
+
+    private static Config newConfig(String batchMaxSize) {
+        Config config = new Config();
+        config.setProperty(ClusterProperty.EVENT_BATCH_MAX_SIZE.getName(), batchMaxSize);
+        ServiceConfig serviceConfig = new ServiceConfig().setEnabled(true).setName(SERVICE_NAME)
+                .setImplementation(new CountingEventPublishingService());
+        ConfigAccessor.getServicesConfig(config).addServiceConfig(serviceConfig);
+        return config;
+    }
+
+    private static class CountingEventPublishingService implements EventPublishingService<Object, AtomicInteger> {
+        @Override
+        public void dispatchEvent(Object event, AtomicInteger listener) {
+            listener.incrementAndGet();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -69,4 +70,25 @@ public class OperationExecutorImpl_ExecuteOperationTest extends OperationExecuto
 
         assertTrueEventually(() -> assertInstanceOf(GenericOperationThread.class, executingThread.get()));
     }
+
+    @Test
+    public void whenGeneric_andWorkStealing() {
+        config.setProperty(OperationExecutorImpl.GENERIC_WORK_STEALING.getName(), "true");
+        initExecutor();
+
+        int operationCount = 1000;
+        CountDownLatch completed = new CountDownLatch(operationCount);
+        for (int i = 0; i < operationCount; i++) {
+            Operation op = new Operation() {
+                @Override
+                public void run() {
+                    assertInstanceOf(GenericOperationThread.class, Thread.currentThread());
+                    completed.countDown();
+                }
+            };
+            executor.execute(op.setPartitionId(-1));
+        }
+
+        assertOpenEventually(completed);
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WorkStealingOperationQueueTest extends HazelcastTestSupport {
+
+    private static final int WORKER_COUNT = 4;
+    private static final Object POISON = new Object();
+
+    private WorkStealingOperationQueue operationQueue;
+
+    @Before
+    public void setup() {
+        operationQueue = new WorkStealingOperationQueue(WORKER_COUNT);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void construct_whenNoWorkers() {
+        new WorkStealingOperationQueue(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() {
+        operationQueue.add(null, false);
+    }
+
+    @Test
+    public void add_whenNormal() {
+        operationQueue.add("task", false);
+
+        assertEquals(1, operationQueue.normalSize());
+        assertEquals(0, operationQueue.prioritySize());
+        assertEquals(1, operationQueue.size());
+        assertFalse(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void add_whenPriority() {
+        operationQueue.add("task", true);
+
+        assertEquals(0, operationQueue.normalSize());
+        assertEquals(1, operationQueue.prioritySize());
+        assertEquals(1, operationQueue.size());
+        assertFalse(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void take_prefersPriorityItems() throws InterruptedException {
+        OperationQueue workerQueue = operationQueue.workerQueue(0);
+        operationQueue.add("normal", false);
+        operationQueue.add("priority", true);
+
+        assertSame("priority", workerQueue.take(false));
+        assertSame("normal", workerQueue.take(false));
+        assertTrue(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void take_whenPriorityOnly() throws InterruptedException {
+        operationQueue.add("normal", false);
+        operationQueue.add("priority", true);
+
+        assertSame("priority", operationQueue.take(true));
+        assertEquals(1, operationQueue.normalSize());
+    }
+
+    @Test
+    public void take_stealsFromOtherWorkers() throws InterruptedException {
+        Set<Object> tasks = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            String task = "task" + i;
+            tasks.add(task);
+            operationQueue.add(task, false);
+        }
+
+        OperationQueue workerQueue = operationQueue.workerQueue(0);
+        Set<Object> taken = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            taken.add(workerQueue.take(false));
+        }
+
+        assertEquals(tasks, taken);
+        assertTrue(operationQueue.isEmpty());
+        assertTrue(operationQueue.stolenCount() > 0);
+        assertNull(workerQueue.poll());
+    }
+
+    @Test
+    public void take_whenPriorityTaskTakenByPriorityConsumer_thenBlocksUntilNextTask() throws Exception {
+        OperationQueue workerQueue = operationQueue.workerQueue(1);
+        operationQueue.add("priority", true);
+        assertSame("priority", operationQueue.take(true));
+
+        Future<Object> future = spawn(() -> workerQueue.take(false));
+        assertTrueAllTheTime(() -> assertFalse(future.isDone()), 1);
+
+        operationQueue.add("normal", false);
+        assertSame("normal", future.get());
+    }
+
+    @Test
+    public void take_whenWorkersParked_thenAllTasksTaken() throws Exception {
+        int taskCount = 10_000;
+        List<Future<Integer>> workers = new ArrayList<>();
+        for (int i = 0; i < WORKER_COUNT; i++) {
+            OperationQueue workerQueue = operationQueue.workerQueue(i);
+            workers.add(spawn(() -> {
+                int taken = 0;
+                while (workerQueue.take(false) != POISON) {
+                    taken++;
+                }
+                return taken;
+            }));
+        }
+
+        List<Future<?>> producers = new ArrayList<>();
+        for (int i = 0; i < WORKER_COUNT; i++) {
+            producers.add(spawn(() -> {
+                for (int k = 0; k < taskCount / WORKER_COUNT; k++) {
+                    operationQueue.add("task", false);
+                }
+            }));
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        for (int i = 0; i < WORKER_COUNT; i++) {
+            operationQueue.add(POISON, false);
+        }
+
+        int taken = 0;
+        for (Future<Integer> worker : workers) {
+            taken += worker.get();
+        }
+        assertEquals(taskCount, taken);
+        assertTrue(operationQueue.isEmpty());
+    }
+}